@@ -0,0 +1,11 @@
+-- 스케줄러 리더 선출용 lease 테이블 (master에서만 읽고 쓴다)
+USE master_db;
+
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    lease_name    VARCHAR(100) NOT NULL,
+    owner_id      VARCHAR(200) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    last_slot     VARCHAR(50)  NOT NULL,
+    expires_at    DATETIME(3)  NOT NULL,
+    PRIMARY KEY (lease_name)
+) ENGINE = InnoDB;
@@ -0,0 +1,27 @@
+-- 경매 종료 이벤트 outbox와 소비자별 처리 위치 (master에서만 읽고 쓴다)
+USE master_db;
+
+CREATE TABLE IF NOT EXISTS auction_outbox (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    event_type VARCHAR(50) NOT NULL,
+    auction_id BIGINT      NOT NULL,
+    created_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_outbox_created_at (created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS outbox_consumer_checkpoint (
+    consumer_name VARCHAR(100) NOT NULL,
+    last_event_id BIGINT       NOT NULL,
+    updated_at    DATETIME(3)  NOT NULL,
+    PRIMARY KEY (consumer_name)
+) ENGINE = InnoDB;
+
+-- 체크포인트 아래에서 아직 전달하지 못한 id 구간 (커밋이 늦은 트랜잭션 또는 롤백으로 비는 번호)
+CREATE TABLE IF NOT EXISTS outbox_consumer_gap (
+    consumer_name VARCHAR(100) NOT NULL,
+    from_id       BIGINT       NOT NULL,
+    to_id         BIGINT       NOT NULL,
+    detected_at   DATETIME(3)  NOT NULL,
+    PRIMARY KEY (consumer_name, from_id)
+) ENGINE = InnoDB;
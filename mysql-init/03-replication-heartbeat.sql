@@ -0,0 +1,8 @@
+-- 복제 지연 측정용 heartbeat 테이블 - master에 쓰고 replica에서 읽는다 (복제되어야 하므로 replica에도 같은 테이블이 생긴다)
+USE master_db;
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    node_id     VARCHAR(200) NOT NULL,
+    beat_millis BIGINT       NOT NULL,
+    PRIMARY KEY (node_id)
+) ENGINE = InnoDB;
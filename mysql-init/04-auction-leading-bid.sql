@@ -0,0 +1,35 @@
+-- 최고가 입찰을 경매 행의 포인터(leading_bid_id, leading_bidder_id)로 관리하고 bids는 INSERT만 하는 원장으로 전환
+-- 컨테이너 초기화 시점처럼 auctions 테이블이 아직 없거나 이미 적용된 DB에서는 아무것도 하지 않는다 (기존 DB에는 한 번 직접 실행)
+USE master_db;
+
+SET @needs_migration = (
+    SELECT COUNT(*) FROM information_schema.tables
+    WHERE table_schema = DATABASE() AND table_name = 'auctions'
+) = 1 AND (
+    SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'auctions' AND column_name = 'leading_bid_id'
+) = 0;
+
+SET @ddl = IF(@needs_migration,
+    'ALTER TABLE auctions ADD COLUMN leading_bid_id BIGINT NULL, ADD COLUMN leading_bidder_id BIGINT NULL',
+    'DO 0');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+-- 기존 is_winning = TRUE 입찰로 포인터를 채운다
+SET @ddl = IF(@needs_migration,
+    'UPDATE auctions a JOIN bids b ON b.auction_id = a.id AND b.is_winning = TRUE '
+        'SET a.leading_bid_id = b.id, a.leading_bidder_id = b.bidder_id',
+    'DO 0');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+-- is_winning은 더 이상 쓰지 않는다: 새 입찰은 기본값으로 두고, 입찰마다 갱신되던 보조 인덱스를 제거
+SET @ddl = IF(@needs_migration,
+    'ALTER TABLE bids ALTER COLUMN is_winning SET DEFAULT FALSE, DROP INDEX idx_auction_winning',
+    'DO 0');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
@@ -0,0 +1,18 @@
+-- 낙찰 확정 배치가 종료 시각 범위 없이 미확정 경매(ENDED, winner_id NULL, leading_bidder_id NOT NULL)만 읽도록 인덱스 추가
+-- 컨테이너 초기화 시점처럼 auctions 테이블이 아직 없거나 이미 적용된 DB에서는 아무것도 하지 않는다 (기존 DB에는 한 번 직접 실행)
+USE master_db;
+
+SET @needs_migration = (
+    SELECT COUNT(*) FROM information_schema.tables
+    WHERE table_schema = DATABASE() AND table_name = 'auctions'
+) = 1 AND (
+    SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'auctions' AND index_name = 'idx_settlement'
+) = 0;
+
+SET @ddl = IF(@needs_migration,
+    'ALTER TABLE auctions ADD INDEX idx_settlement (status, winner_id, leading_bidder_id)',
+    'DO 0');
+PREPARE statement FROM @ddl;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
@@ -0,0 +1,93 @@
+package com.example.demo.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 경매 데이터 생성기.
+ * <p>
+ * 종료 시간은 실제 트래픽처럼 치우치게 만든다: expiredRatio 만큼은 이미 지났고 대부분이 최근 몇 분 안에 몰려 있으며
+ * (지수 분포), 나머지는 앞으로 하루 안에 종료된다. 같은 seed면 같은 데이터가 만들어진다.
+ */
+public class AuctionDataGenerator {
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+    private static final double MEAN_EXPIRED_AGE_SECONDS = 600;  // 만료된 경매의 평균 경과 시간 (10분)
+    private static final long FUTURE_WINDOW_SECONDS = 24 * 60 * 60;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO auctions (title, description, starting_price, current_price, min_bid_increment, seller_id, " +
+                    "status, start_time, end_time, bid_count, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double expiredRatio;
+    private final long seed;
+
+    public AuctionDataGenerator(JdbcTemplate jdbcTemplate, double expiredRatio, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expiredRatio = expiredRatio;
+        this.seed = seed;
+    }
+
+    /**
+     * 기존 경매를 지우고 count 건을 새로 만든다.
+     *
+     * @return now 기준으로 이미 종료 시간이 지난 경매 수 (= 종료 배치가 처리해야 할 건수)
+     */
+    public long generate(int count, LocalDateTime now) {
+        jdbcTemplate.update("DELETE FROM auction_outbox");
+        jdbcTemplate.update("DELETE FROM auctions");
+        long sellerId = ensureSeller(now);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        BigDecimal price = BigDecimal.valueOf(10_000);
+        BigDecimal increment = BigDecimal.valueOf(100);
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(2));
+        long expired = 0;
+
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime endTime;
+            if (random.nextDouble() < expiredRatio) {
+                long ageSeconds = (long) (-Math.log(1 - random.nextDouble()) * MEAN_EXPIRED_AGE_SECONDS) + 1;
+                endTime = now.minusSeconds(ageSeconds);
+                expired++;
+            } else {
+                endTime = now.plusSeconds(1 + random.nextLong(FUTURE_WINDOW_SECONDS));
+            }
+
+            batch.add(new Object[]{"benchmark-" + i, "benchmark auction", price, price, increment, sellerId,
+                    Timestamp.valueOf(endTime.minusDays(1)), Timestamp.valueOf(endTime), createdAt, createdAt});
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        return expired;
+    }
+
+    /**
+     * 이전 방식이 종료 처리한 경매를 다시 ACTIVE로 되돌려 같은 조건에서 다음 방식을 측정한다
+     */
+    public void reset() {
+        jdbcTemplate.update("UPDATE auctions SET status = 'ACTIVE' WHERE status = 'ENDED'");
+        jdbcTemplate.update("DELETE FROM auction_outbox");
+    }
+
+    private long ensureSeller(LocalDateTime now) {
+        jdbcTemplate.update("DELETE FROM users WHERE email = 'benchmark-seller@example.com'");
+        jdbcTemplate.update("INSERT INTO users (email, username, created_at) VALUES (?, ?, ?)",
+                "benchmark-seller@example.com", "benchmark-seller", Timestamp.valueOf(now));
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'benchmark-seller@example.com'", Long.class);
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.batch.job.AuctionEndMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 경매 종료 배치 벤치마크 - 파일 기반 H2에 데이터를 만들고 종료 Step 방식별로 처리량, 배치 힙 사용량,
+ * 청크 트랜잭션 p99를 측정해 결과 파일에 남긴다. 회귀 기준(benchmark-thresholds.properties)을 벗어나면
+ * 예외로 종료해 빌드를 실패시킨다. ({@code check}에 연결되어 CI 규모(1만 건)로 항상 실행)
+ * <p>
+ * 힙은 Job 실행 직전 GC 후 사용량(애플리케이션 컨텍스트 + DB 페이지 캐시)을 기준으로, 실행 중 최대 사용량과의 차이만
+ * 배치의 힙 사용량으로 본다.
+ * <p>
+ * 실행: {@code ./gradlew benchmark -Pbenchmark.volumes=10000,1000000}
+ */
+@Slf4j
+public class BatchBenchmark {
+
+    private static final String CHUNK_TIMER = "auction.batch.chunk.duration";
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> volumes = Arrays.stream(System.getProperty("benchmark.volumes", "10000").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList();
+        Path resultsFile = Path.of(System.getProperty("benchmark.results", "build/benchmark/results.csv"));
+        Properties thresholds = loadThresholds(System.getProperty("benchmark.thresholds"));
+        double expiredRatio = Double.parseDouble(System.getProperty("benchmark.expired-ratio", "0.8"));
+
+        List<String> violations = new ArrayList<>();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("benchmark")
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+
+            BatchBenchmark benchmark = new BatchBenchmark(context);
+            AuctionDataGenerator generator = new AuctionDataGenerator(
+                    context.getBean(JdbcTemplate.class), expiredRatio, 42L);
+
+            for (int volume : volumes) {
+                LocalDateTime now = LocalDateTime.now();
+                long expected = generator.generate(volume, now);
+                log.info("데이터 생성: {}건 (만료 {}건)", volume, expected);
+
+                for (AuctionEndMode mode : AuctionEndMode.values()) {
+                    generator.reset();
+                    BenchmarkResult result = benchmark.run(mode, volume, expected, now);
+                    log.info("{}", result);
+                    writeResult(resultsFile, result);
+                    violations.addAll(result.violations(thresholds));
+                }
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> log.error("성능 회귀: {}", violation));
+            throw new IllegalStateException("배치 벤치마크 회귀 기준 위반 " + violations.size() + "건");
+        }
+    }
+
+    private final JobRepository jobRepository;
+    private final JobLauncher jobLauncher;
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final ConfigurableApplicationContext context;
+
+    private BatchBenchmark(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.jobRepository = context.getBean(JobRepository.class);
+        this.jobLauncher = context.getBean(JobLauncher.class);
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    private BenchmarkResult run(AuctionEndMode mode, int volume, long expected, LocalDateTime now) throws Exception {
+        // 낙찰 확정 Step(UPDATE ... JOIN)은 MySQL 전용이라 종료 Step만 단독 Job으로 실행
+        Step step = context.getBean(endStepName(mode), Step.class);
+        Job job = new JobBuilder("benchmark-" + mode.name(), jobRepository).start(step).build();
+
+        meterRegistry.find(CHUNK_TIMER).meters().forEach(meterRegistry::remove);
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        long baselineHeap = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        JobExecution execution = jobLauncher.run(job, new JobParametersBuilder()
+                .addString("currentTime", now.toString())
+                .addString(AuctionEndMode.JOB_PARAMETER, mode.name())
+                .addLong("runId", System.nanoTime())
+                .toJobParameters());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long ended = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auctions WHERE status = 'ENDED'", Long.class);
+
+        return new BenchmarkResult(mode, volume, expected, ended, execution.getStatus(), elapsed,
+                baselineHeap, Math.max(peakHeap - baselineHeap, 0), chunkP99Millis());
+    }
+
+    // 파티션 워커 등 Step별 타이머 중 가장 나쁜 p99
+    private double chunkP99Millis() {
+        double worst = 0;
+        for (Timer timer : meterRegistry.find(CHUNK_TIMER).tag("outcome", "committed").timers()) {
+            for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+                if (percentile.percentile() == 0.99) {
+                    worst = Math.max(worst, percentile.value(TimeUnit.MILLISECONDS));
+                }
+            }
+        }
+        return worst;
+    }
+
+    private static String endStepName(AuctionEndMode mode) {
+        return switch (mode) {
+            case CHUNK -> "auctionEndStep";
+            case PARTITIONED -> "auctionEndPartitionedStep";
+            case RANGE_UPDATE -> "auctionEndRangeUpdateStep";
+            case ID_BLOCK -> "auctionEndIdBlockStep";
+        };
+    }
+
+    private static Properties loadThresholds(String path) throws IOException {
+        Properties properties = new Properties();
+        if (path != null) {
+            try (InputStream in = Files.newInputStream(Path.of(path))) {
+                properties.load(in);
+            }
+            return properties;
+        }
+        try (InputStream in = BatchBenchmark.class.getResourceAsStream("/benchmark-thresholds.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private static void writeResult(Path file, BenchmarkResult result) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.notExists(file)) {
+                Files.writeString(file, BenchmarkResult.CSV_HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, result.toCsv() + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 방식 하나의 측정 결과
+     */
+    record BenchmarkResult(AuctionEndMode mode, int volume, long expected, long ended, BatchStatus status,
+                           Duration elapsed, long baselineHeapBytes, long batchHeapBytes, double chunkP99Millis) {
+
+        static final String CSV_HEADER = "timestamp,mode,volume,expected,ended,status,elapsed_ms,throughput_per_sec," +
+                "baseline_heap_mb,batch_heap_mb,chunk_p99_ms";
+
+        double throughput() {
+            return ended * 1000.0 / Math.max(elapsed.toMillis(), 1L);
+        }
+
+        double baselineHeapMb() {
+            return baselineHeapBytes / (1024.0 * 1024);
+        }
+
+        double batchHeapMb() {
+            return batchHeapBytes / (1024.0 * 1024);
+        }
+
+        List<String> violations(Properties thresholds) {
+            List<String> violations = new ArrayList<>();
+            if (status != BatchStatus.COMPLETED || ended != expected) {
+                violations.add(String.format("%s/%d: 상태=%s, 종료 %d건 (기대 %d건)", mode, volume, status, ended, expected));
+            }
+
+            String minThroughput = thresholds.getProperty("min-throughput." + mode.name());
+            if (minThroughput != null && throughput() < Double.parseDouble(minThroughput)) {
+                violations.add(String.format("%s/%d: 처리량 %.0f건/초 < 기준 %s", mode, volume, throughput(), minThroughput));
+            }
+            String maxP99 = thresholds.getProperty("max-p99-chunk-ms");
+            if (maxP99 != null && chunkP99Millis > Double.parseDouble(maxP99)) {
+                violations.add(String.format("%s/%d: 청크 p99 %.1fms > 기준 %sms", mode, volume, chunkP99Millis, maxP99));
+            }
+            String maxHeap = thresholds.getProperty("max-batch-heap-mb");
+            if (maxHeap != null && batchHeapMb() > Double.parseDouble(maxHeap)) {
+                violations.add(String.format("%s/%d: 배치 힙 %.1fMB > 기준 %sMB", mode, volume, batchHeapMb(), maxHeap));
+            }
+            return violations;
+        }
+
+        String toCsv() {
+            return String.join(",", LocalDateTime.now().toString(), mode.name(), String.valueOf(volume),
+                    String.valueOf(expected), String.valueOf(ended), status.name(), String.valueOf(elapsed.toMillis()),
+                    String.format("%.1f", throughput()), String.format("%.1f", baselineHeapMb()),
+                    String.format("%.1f", batchHeapMb()),
+                    String.format("%.1f", chunkP99Millis));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s, %,d건] %s, 종료 %,d/%,d건, %dms, %.0f건/초, 배치 힙 %.1fMB (기준 %.1fMB), 청크 p99 %.1fms",
+                    mode, volume, status, ended, expected, elapsed.toMillis(), throughput(), batchHeapMb(),
+                    baselineHeapMb(), chunkP99Millis);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.demo.benchmark;
+
+import com.example.demo.DemoApplication;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 입찰 API 동시성 벤치마크 - 같은 부하(동시 클라이언트 수천 개)로 플랫폼 스레드 모드와 가상 스레드 모드의
+ * 처리량과 응답 시간을 비교한다.
+ * <p>
+ * 기본은 인메모리 DB라 JDBC 대기 시간이 거의 없으므로, 실제 차이를 보려면 MySQL을 지정해 실행한다:
+ * {@code ./gradlew bidBenchmark -Dauction.datasource.master.url=jdbc:mysql://...}
+ */
+@Slf4j
+public class BidEndpointBenchmark {
+
+    private static final BigDecimal STARTING_PRICE = BigDecimal.valueOf(10_000);
+    private static final long BID_STEP = 100;
+
+    public static void main(String[] args) throws Exception {
+        int clients = Integer.getInteger("benchmark.bid.clients", 2000);
+        int auctions = Integer.getInteger("benchmark.bid.auctions", 100);
+        int bidders = Integer.getInteger("benchmark.bid.bidders", 1000);
+        Duration warmup = Duration.ofSeconds(Long.getLong("benchmark.bid.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("benchmark.bid.duration-seconds", 20));
+        Path resultsFile = Path.of(System.getProperty("benchmark.bid.results", "build/benchmark/bid-results.csv"));
+
+        List<BidResult> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                    .profiles("benchmark")
+                    .web(WebApplicationType.SERVLET)
+                    .properties(Map.of(
+                            "server.port", "0",
+                            "spring.threads.virtual.enabled", String.valueOf(virtualThreads)))
+                    .run(args)) {
+
+                BidEndpointBenchmark benchmark = new BidEndpointBenchmark(context, clients);
+                benchmark.seed(auctions, bidders);
+                benchmark.load(warmup);
+                BidResult result = benchmark.load(duration).withMode(virtualThreads ? "VIRTUAL" : "PLATFORM");
+                log.info("{}", result);
+                writeResult(resultsFile, result);
+                results.add(result);
+            }
+        }
+
+        if (results.size() == 2) {
+            log.info("가상 스레드 / 플랫폼 스레드 처리량 비율: {}",
+                    String.format("%.2f", results.get(1).throughput() / Math.max(results.get(0).throughput(), 1)));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int clients;
+    private final URI bidUri;
+    private final AtomicLong nextAmount = new AtomicLong();
+    private long[] auctionIds;
+    private long[] bidderIds;
+
+    private BidEndpointBenchmark(ConfigurableApplicationContext context, int clients) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.clients = clients;
+        this.bidUri = URI.create("http://localhost:"
+                + context.getEnvironment().getProperty("local.server.port") + "/api/bids");
+    }
+
+    /**
+     * 판매자 1명, 입찰자 bidders명, 진행 중인 경매 auctions개 생성 (인메모리 DB는 실행 사이에 유지되므로 먼저 비운다)
+     */
+    private void seed(int auctions, int bidders) {
+        jdbcTemplate.update("DELETE FROM bids");
+        jdbcTemplate.update("DELETE FROM auction_outbox");
+        jdbcTemplate.update("DELETE FROM auctions");
+        jdbcTemplate.update("DELETE FROM users");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i <= bidders; i++) {
+            users.add(new Object[]{"bid-benchmark-" + i + "@example.com", "bid-benchmark-" + i, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (email, username, created_at) VALUES (?, ?, ?)", users);
+        long[] userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        long sellerId = userIds[0];
+        bidderIds = Arrays.copyOfRange(userIds, 1, userIds.length);
+
+        Timestamp startTime = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        Timestamp endTime = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < auctions; i++) {
+            rows.add(new Object[]{"bid-benchmark-" + i, STARTING_PRICE, STARTING_PRICE, BigDecimal.valueOf(BID_STEP),
+                    sellerId, startTime, endTime, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO auctions (title, description, starting_price, current_price, " +
+                "min_bid_increment, seller_id, status, start_time, end_time, bid_count, created_at) " +
+                "VALUES (?, 'bid benchmark', ?, ?, ?, ?, 'ACTIVE', ?, ?, 0, ?)", rows);
+        auctionIds = jdbcTemplate.queryForList("SELECT id FROM auctions ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        nextAmount.set(STARTING_PRICE.longValue());
+    }
+
+    /**
+     * clients개의 가상 스레드 클라이언트가 duration 동안 쉬지 않고 입찰 요청을 보낸다.
+     * 금액은 전역으로 계속 올라가므로 대부분 유효한 입찰이고, 동시 입찰 경합으로 거절된 4xx도 처리된 요청으로 센다.
+     */
+    private BidResult load(Duration duration) throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer latency = Timer.builder("bid.latency").publishPercentiles(0.5, 0.99).register(registry);
+        LongAdder accepted = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        LongAdder errors = new LongAdder();
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = httpClient.send(bidRequest(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                            if (status < 300) {
+                                accepted.increment();
+                            } else if (status < 500) {
+                                rejected.increment();
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                });
+            }
+        }
+        return new BidResult(null, clients, duration, accepted.sum(), rejected.sum(), errors.sum(), latency.takeSnapshot());
+    }
+
+    private HttpRequest bidRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String body = String.format("{\"auctionId\":%d,\"bidderId\":%d,\"bidAmount\":%d}",
+                auctionIds[random.nextInt(auctionIds.length)],
+                bidderIds[random.nextInt(bidderIds.length)],
+                nextAmount.addAndGet(BID_STEP));
+        return HttpRequest.newBuilder(bidUri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static void writeResult(Path file, BidResult result) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            if (Files.notExists(file)) {
+                Files.writeString(file, BidResult.CSV_HEADER + System.lineSeparator());
+            }
+            Files.writeString(file, result.toCsv() + System.lineSeparator(), StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 모드 하나의 측정 결과
+     */
+    record BidResult(String mode, int clients, Duration duration, long accepted, long rejected, long errors,
+                     HistogramSnapshot latency) {
+
+        static final String CSV_HEADER =
+                "timestamp,mode,clients,duration_s,accepted,rejected,errors,throughput_per_sec,p50_ms,p99_ms";
+
+        BidResult withMode(String mode) {
+            return new BidResult(mode, clients, duration, accepted, rejected, errors, latency);
+        }
+
+        double throughput() {
+            return (accepted + rejected) / (double) duration.toSeconds();
+        }
+
+        double percentileMillis(double percentile) {
+            for (ValueAtPercentile value : latency.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return Double.NaN;
+        }
+
+        String toCsv() {
+            return String.join(",", LocalDateTime.now().toString(), mode, String.valueOf(clients),
+                    String.valueOf(duration.toSeconds()), String.valueOf(accepted), String.valueOf(rejected),
+                    String.valueOf(errors), String.format("%.1f", throughput()),
+                    String.format("%.1f", percentileMillis(0.5)), String.format("%.1f", percentileMillis(0.99)));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%s, 클라이언트 %,d] 성공 %,d건, 거절 %,d건, 오류 %,d건, %.0f건/초, p50 %.1fms, p99 %.1fms",
+                    mode, clients, accepted, rejected, errors, throughput(), percentileMillis(0.5), percentileMillis(0.99));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+-- 벤치마크용 H2(MySQL 호환 모드) 스키마 - 운영 스키마 중 배치 경로가 쓰는 테이블만
+CREATE TABLE IF NOT EXISTS users (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email        VARCHAR(255) NOT NULL UNIQUE,
+    username     VARCHAR(100) NOT NULL,
+    phone_number VARCHAR(20),
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)
+);
+
+CREATE TABLE IF NOT EXISTS auctions (
+    id                BIGINT AUTO_INCREMENT PRIMARY KEY,
+    title             VARCHAR(255)   NOT NULL,
+    description       TEXT           NOT NULL,
+    starting_price    DECIMAL(15, 2) NOT NULL,
+    current_price     DECIMAL(15, 2) NOT NULL,
+    min_bid_increment DECIMAL(15, 2) NOT NULL,
+    seller_id         BIGINT         NOT NULL,
+    status            VARCHAR(20)    NOT NULL,
+    start_time        DATETIME(6)    NOT NULL,
+    end_time          DATETIME(6)    NOT NULL,
+    bid_count         INT            NOT NULL,
+    winner_id         BIGINT,
+    leading_bid_id    BIGINT,
+    leading_bidder_id BIGINT,
+    created_at        DATETIME(6)    NOT NULL,
+    updated_at        DATETIME(6)
+);
+CREATE INDEX IF NOT EXISTS idx_auctions_status ON auctions (status);
+CREATE INDEX IF NOT EXISTS idx_auctions_end_time ON auctions (end_time);
+CREATE INDEX IF NOT EXISTS idx_auctions_start_time ON auctions (start_time);
+CREATE INDEX IF NOT EXISTS idx_auctions_settlement ON auctions (status, winner_id, leading_bidder_id);
+
+CREATE TABLE IF NOT EXISTS bids (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    auction_id BIGINT         NOT NULL,
+    bidder_id  BIGINT         NOT NULL,
+    bid_amount DECIMAL(15, 2) NOT NULL,
+    bid_time   DATETIME(6)    NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_bids_auction ON bids (auction_id);
+
+CREATE TABLE IF NOT EXISTS auction_outbox (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    auction_id BIGINT      NOT NULL,
+    created_at DATETIME(3) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_consumer_checkpoint (
+    consumer_name VARCHAR(100) PRIMARY KEY,
+    last_event_id BIGINT      NOT NULL,
+    updated_at    DATETIME(3) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS outbox_consumer_gap (
+    consumer_name VARCHAR(100) NOT NULL,
+    from_id       BIGINT       NOT NULL,
+    to_id         BIGINT       NOT NULL,
+    detected_at   DATETIME(3)  NOT NULL,
+    PRIMARY KEY (consumer_name, from_id)
+);
+
+CREATE TABLE IF NOT EXISTS scheduler_lease (
+    lease_name    VARCHAR(100) PRIMARY KEY,
+    owner_id      VARCHAR(200) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    last_slot     VARCHAR(50)  NOT NULL,
+    expires_at    DATETIME(3)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    node_id     VARCHAR(200) PRIMARY KEY,
+    beat_millis BIGINT       NOT NULL
+);
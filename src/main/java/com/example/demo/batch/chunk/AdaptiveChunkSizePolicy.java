@@ -0,0 +1,185 @@
+package com.example.demo.batch.chunk;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+import org.springframework.batch.repeat.policy.CompletionPolicySupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 청크 트랜잭션 시간을 측정해 다음 청크 크기를 조절하는 CompletionPolicy.
+ * <p>
+ * 청크마다 트랜잭션 전체 시간과, 그중 행 락을 잡고 있는 구간(쓰기 시작 ~ 커밋 완료)을 잰다.
+ * 쓰기 구간에는 입찰 트래픽과의 락 대기가, 커밋 구간에는 redo flush 대기가 그대로 드러나므로
+ * 락 보유 시간이 목표를 넘으면 크기를 절반으로 줄이고, 여유가 있으면 건당 처리 시간으로 목표에 맞는 크기를 계산해
+ * 최대 1.5배씩 키운다. 크기는 항상 [minSize, maxSize] 안에 있다.
+ * <p>
+ * 측정 값은 스레드별로 보관하므로 멀티스레드 Step과 파티션 워커가 같은 인스턴스를 공유해도 된다.
+ * 인스턴스를 싱글톤으로 두면 배치 실행 사이에도 학습한 크기가 유지된다.
+ */
+@Slf4j
+public class AdaptiveChunkSizePolicy extends CompletionPolicySupport
+        implements ChunkListener, ItemWriteListener<Object> {
+
+    private static final double MAX_GROWTH = 1.5;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetMillis;
+    private final AtomicInteger chunkSize;
+    private final ThreadLocal<ChunkTiming> currentChunk = new ThreadLocal<>();
+
+    public AdaptiveChunkSizePolicy(int initialSize, int minSize, int maxSize, long targetMillis) {
+        if (minSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("청크 크기 범위가 올바르지 않습니다: " + minSize + " ~ " + maxSize);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetMillis = targetMillis;
+        this.chunkSize = new AtomicInteger(clamp(initialSize));
+    }
+
+    public int getChunkSize() {
+        return chunkSize.get();
+    }
+
+    // ===== CompletionPolicy: 청크 시작 시점의 크기로 고정해 청크 하나를 끊는다 =====
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        return new ChunkSizeContext(parent, chunkSize.get());
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        return super.isComplete(context, result) || isComplete(context);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return ((ChunkSizeContext) context).isFull();
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((ChunkSizeContext) context).increment();
+    }
+
+    // ===== 측정: 청크 트랜잭션 안에서 호출된다 =====
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkTiming timing = new ChunkTiming(System.nanoTime());
+        currentChunk.set(timing);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(timing);
+        }
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        ChunkTiming timing = currentChunk.get();
+        if (timing != null) {
+            timing.writeStart = System.nanoTime();
+            timing.items = items.size();
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        currentChunk.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        currentChunk.remove();
+    }
+
+    /**
+     * 청크 하나의 측정 결과로 다음 청크 크기를 정한다.
+     *
+     * @param transactionMillis 트랜잭션 시작 ~ 커밋 완료
+     * @param lockHoldMillis    쓰기 시작 ~ 커밋 완료 (락 대기 + 커밋 지연)
+     * @param items             청크 건수
+     */
+    void adjust(long transactionMillis, long lockHoldMillis, int items) {
+        if (items == 0) {
+            return;
+        }
+
+        int previous = chunkSize.get();
+        int next;
+        if (lockHoldMillis > targetMillis) {
+            next = clamp(previous / 2);
+        } else {
+            double millisPerItem = Math.max(transactionMillis, 1L) / (double) items;
+            int fitted = (int) (targetMillis / millisPerItem);
+            next = clamp(Math.min(fitted, (int) (previous * MAX_GROWTH)));
+        }
+
+        if (chunkSize.compareAndSet(previous, next) && next != previous) {
+            log.debug("청크 크기 조정: {} -> {} (트랜잭션 {}ms, 락 보유 {}ms, {}건)",
+                    previous, next, transactionMillis, lockHoldMillis, items);
+        }
+    }
+
+    private void shrink() {
+        int previous = chunkSize.getAndUpdate(size -> clamp(size / 2));
+        log.debug("청크 롤백으로 크기 축소: {} -> {}", previous, chunkSize.get());
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    private static final class ChunkSizeContext extends RepeatContextSupport {
+
+        private final int size;
+
+        private ChunkSizeContext(RepeatContext parent, int size) {
+            super(parent);
+            this.size = size;
+        }
+
+        private boolean isFull() {
+            return getStartedCount() >= size;
+        }
+    }
+
+    /**
+     * 청크 트랜잭션 하나의 시각 기록 - 커밋 전후 콜백으로 측정을 마무리한다
+     */
+    private final class ChunkTiming implements TransactionSynchronization {
+
+        private final long start;
+        private long writeStart;
+        private int items;
+
+        private ChunkTiming(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status != STATUS_COMMITTED) {
+                shrink();
+                return;
+            }
+            long end = System.nanoTime();
+            long lockHoldStart = writeStart != 0 ? writeStart : start;
+            adjust(toMillis(end - start), toMillis(end - lockHoldStart), items);
+        }
+
+        private long toMillis(long nanos) {
+            return nanos / 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.demo.batch.idblock;
+
+import com.example.demo.outbox.AuctionOutboxEvent;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+/**
+ * long[] id 블록을 종료 처리하는 Writer - 블록의 id를 {@code IN (?, ...)} 목록에 setLong으로 바로 바인딩한다.
+ * <p>
+ * 청크 Writer와 같이 outbox INSERT 후 {@code status = 'ACTIVE'} 조건의 UPDATE를 실행하되, 블록마다 한 문장씩 보낸다.
+ * JDBC 배치는 rewriteBatchedStatements에서 건별 결과 대신 SUCCESS_NO_INFO를 돌려줄 수 있어, 휠이나 수동 종료가 먼저
+ * 끝낸 경매까지 종료 건수로 셀 수 있기 때문이다. 한 문장의 반영 행 수는 조건을 통과한 행만 세므로 정확하다.
+ * Step의 writeCount는 블록 수이므로 실제 종료 건수는 StepExecutionContext의 {@link #ENDED_COUNT_KEY}에 누적한다.
+ */
+public class AuctionEndIdBlockWriter implements ItemWriter<long[]> {
+
+    public static final String ENDED_COUNT_KEY = "idBlock.endedCount";
+
+    private static final String OUTBOX_SQL_PREFIX =
+            "INSERT INTO auction_outbox (event_type, auction_id, created_at) " +
+                    "SELECT '" + AuctionOutboxEvent.AUCTION_ENDED + "', id, CURRENT_TIMESTAMP(3) FROM auctions " +
+                    "WHERE status = 'ACTIVE' AND id IN (";
+    private static final String END_SQL_PREFIX =
+            "UPDATE auctions SET status = 'ENDED' WHERE status = 'ACTIVE' AND id IN (";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StepExecution stepExecution;
+
+    public AuctionEndIdBlockWriter(JdbcTemplate jdbcTemplate, StepExecution stepExecution) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public void write(Chunk<? extends long[]> chunk) {
+        long ended = 0;
+        for (long[] block : chunk) {
+            if (block.length == 0) {
+                continue;
+            }
+            jdbcTemplate.update(inList(OUTBOX_SQL_PREFIX, block.length), idSetter(block));
+            ended += jdbcTemplate.update(inList(END_SQL_PREFIX, block.length), idSetter(block));
+        }
+        stepExecution.getExecutionContext().putLong(ENDED_COUNT_KEY,
+                stepExecution.getExecutionContext().getLong(ENDED_COUNT_KEY, 0L) + ended);
+    }
+
+    // 블록 크기가 같으면 SQL 문자열도 같아 서버/드라이버의 statement 캐시를 재사용한다 (마지막 블록만 다름)
+    private static String inList(String prefix, int size) {
+        StringBuilder sql = new StringBuilder(prefix.length() + size * 3);
+        sql.append(prefix);
+        for (int i = 0; i < size; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.append(')').toString();
+    }
+
+    private static PreparedStatementSetter idSetter(long[] block) {
+        return ps -> {
+            for (int i = 0; i < block.length; i++) {
+                ps.setLong(i + 1, block[i]);
+            }
+        };
+    }
+}
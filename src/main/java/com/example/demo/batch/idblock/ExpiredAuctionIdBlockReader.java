@@ -0,0 +1,63 @@
+package com.example.demo.batch.idblock;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 만료된 경매 id를 primitive long[] 블록으로 읽는 Reader.
+ * <p>
+ * 행마다 DTO와 boxed Long을 만들지 않고 ResultSet에서 바로 long 배열에 채운다.
+ * {@code id > 마지막 id} 조건의 keyset 조회라 페이지가 뒤로 갈수록 느려지지 않으며,
+ * 마지막으로 넘긴 id를 ExecutionContext에 저장해 재시작 시 이어서 읽는다. (단일 스레드 Step 전용)
+ */
+@Slf4j
+public class ExpiredAuctionIdBlockReader implements ItemStreamReader<long[]> {
+
+    private static final String LAST_ID_KEY = "idBlock.lastId";
+
+    private static final String SELECT_SQL =
+            "SELECT id FROM auctions WHERE status = 'ACTIVE' AND end_time <= ? AND id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime currentTime;
+    private final int blockSize;
+    private long lastId;
+
+    public ExpiredAuctionIdBlockReader(JdbcTemplate jdbcTemplate, LocalDateTime currentTime, int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.currentTime = currentTime;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        lastId = executionContext.getLong(LAST_ID_KEY, 0L);
+    }
+
+    @Override
+    public long[] read() {
+        long[] block = jdbcTemplate.query(SELECT_SQL, rs -> {
+            long[] ids = new long[blockSize];
+            int count = 0;
+            while (rs.next()) {
+                ids[count++] = rs.getLong(1);
+            }
+            return count == blockSize ? ids : Arrays.copyOf(ids, count);
+        }, currentTime, lastId, blockSize);
+
+        if (block == null || block.length == 0) {
+            return null;
+        }
+        lastId = block[block.length - 1];
+        return block;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(LAST_ID_KEY, lastId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.batch.job;
+
+import com.example.demo.batch.lease.LeaseFencingChunkListener;
+import com.example.demo.dto.AuctionActivationDto;
+import com.example.demo.entity.AuctionStatus;
+import java.time.LocalDateTime;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 경매 시작 배치 - 시작 시간이 지난 PENDING 경매를 청크 단위로 ACTIVE로 전환
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AuctionActivationJobConfig {
+
+        private final JobRepository jobRepository;
+        @Qualifier("batchTransactionManager")
+        private final PlatformTransactionManager transactionManager;
+        @Qualifier("batchDataSource")
+        private final DataSource dataSource;
+        private final LeaseFencingChunkListener leaseFencingChunkListener;
+
+        private static final int CHUNK_SIZE = 1000;
+
+        @Bean
+        public Job auctionActivationJob() throws Exception {
+                log.info("========== 경매 시작 Job 설정 ==========");
+                return new JobBuilder("auctionActivationJob", jobRepository)
+                                .start(auctionActivationStep())
+                                .build();
+        }
+
+        @Bean
+        public Step auctionActivationStep() throws Exception {
+                log.info("========== 경매 시작 Step 설정 ==========");
+                return new StepBuilder("auctionActivationStep", jobRepository)
+                                .<AuctionActivationDto, AuctionActivationDto>chunk(CHUNK_SIZE, transactionManager)
+                                .reader(startableAuctionJdbcReader(null))
+                                .writer(auctionActivationWriter())
+                                .listener(leaseFencingChunkListener)
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public JdbcPagingItemReader<AuctionActivationDto> startableAuctionJdbcReader(
+                        @Value("#{jobParameters['currentTime']}") String currentTime) throws Exception {
+
+                log.info("========== Reader 설정: 시작 시간이 지난 경매 조회 (JDBC Paging) ==========");
+
+                SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+                queryProvider.setDataSource(dataSource);
+                queryProvider.setSelectClause("a.id");
+                queryProvider.setFromClause("from auctions a");
+                queryProvider.setWhereClause("where a.status = :status AND a.start_time <= :currentTime");
+                queryProvider.setSortKey("id");
+
+                return new JdbcPagingItemReaderBuilder<AuctionActivationDto>()
+                                .name("startableAuctionJdbcReader")
+                                .pageSize(CHUNK_SIZE)
+                                .dataSource(dataSource)
+                                .rowMapper(new BeanPropertyRowMapper<>(AuctionActivationDto.class))
+                                .queryProvider(queryProvider.getObject())
+                                .parameterValues(Map.of(
+                                                "status", AuctionStatus.PENDING.name(),
+                                                "currentTime", LocalDateTime.parse(currentTime)))
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public JdbcBatchItemWriter<AuctionActivationDto> auctionActivationWriter() {
+                log.info("========== Writer 설정: ACTIVE 전환 JDBC 배치 업데이트 ==========");
+
+                // 수동 종료 등으로 이미 상태가 바뀐 경매는 건드리지 않도록 PENDING 조건을 함께 건다
+                return new JdbcBatchItemWriterBuilder<AuctionActivationDto>()
+                                .dataSource(dataSource)
+                                .sql("UPDATE auctions SET status = 'ACTIVE' WHERE id = :id AND status = 'PENDING'")
+                                .beanMapped()
+                                .assertUpdates(false)
+                                .build();
+        }
+}
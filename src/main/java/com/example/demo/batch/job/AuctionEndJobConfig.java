@@ -1,29 +1,56 @@
 package com.example.demo.batch.job;
 
+import com.example.demo.batch.chunk.AdaptiveChunkSizePolicy;
+import com.example.demo.batch.idblock.AuctionEndIdBlockWriter;
+import com.example.demo.batch.idblock.ExpiredAuctionIdBlockReader;
+import com.example.demo.batch.lease.LeaseFencingChunkListener;
+import com.example.demo.batch.listener.AuctionEndMetricsListener;
+import com.example.demo.batch.partition.AuctionIdRangePartitioner;
+import com.example.demo.batch.tasklet.IdRangeUpdateTasklet;
 import com.example.demo.dto.AuctionEndDto;
 import com.example.demo.entity.AuctionStatus;
+import com.example.demo.outbox.AuctionOutboxEvent;
 import jakarta.persistence.EntityManagerFactory;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.ResourcelessJobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.batch.item.support.builder.CompositeItemWriterBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -33,32 +60,149 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 public class AuctionEndJobConfig {
 
         private final JobRepository jobRepository;
+        // 배치 Step은 웹 요청과 분리된 배치 전용 풀에서 실행
+        @Qualifier("batchTransactionManager")
         private final PlatformTransactionManager transactionManager;
         private final EntityManagerFactory entityManagerFactory;
+        @Qualifier("batchDataSource")
         private final DataSource dataSource;
+        private final AuctionEndMetricsListener auctionEndMetricsListener;
+        private final LeaseFencingChunkListener leaseFencingChunkListener;
 
-        private static final int CHUNK_SIZE = 1000;
+        // 후보 조회는 복제 지연이 허용 범위면 slave에서 (쓰기는 배치 풀로 master에서)
+        @Qualifier("batchScanDataSource")
+        private final DataSource batchScanDataSource;
+
+        private static final String EXPIRED_WHERE_CLAUSE = "where a.status = :status AND a.end_time <= :currentTime";
+
+        // 웹 요청, @Scheduled와 함께 배치 워커도 가상 스레드로 실행
+        @Value("${spring.threads.virtual.enabled:false}")
+        private boolean virtualThreads;
+
+        // 청크 크기 조절 범위와 목표 트랜잭션 시간 (입찰 트래픽이 긴 커밋 뒤에 막히지 않도록)
+        @Value("${auction.batch.end.chunk.initial-size:1000}")
+        private int chunkInitialSize;
+
+        @Value("${auction.batch.end.chunk.min-size:100}")
+        private int chunkMinSize;
+
+        @Value("${auction.batch.end.chunk.max-size:5000}")
+        private int chunkMaxSize;
+
+        @Value("${auction.batch.end.chunk.target-transaction-ms:200}")
+        private long chunkTargetMillis;
+
+        // ID_BLOCK 방식에서 long[] 블록 하나(= 청크 트랜잭션 하나)에 담는 id 수
+        @Value("${auction.batch.end.id-block-size:1000}")
+        private int idBlockSize;
+
+        // 파티션 수 = 동시에 실행되는 워커 Step 수
+        @Value("${auction.batch.end.grid-size:4}")
+        private int gridSize;
+
+        // RANGE_UPDATE 방식에서 UPDATE 한 번이 담당하는 id 구간 크기
+        @Value("${auction.batch.end.range-window-size:5000}")
+        private long rangeWindowSize;
 
         @Bean
         public Job auctionEndJob() throws Exception {
                 log.info("========== 경매 종료 Job 설정 ==========");
+                // 실패한 실행은 같은 JobParameters로 재시작하면 중단된 지점부터 이어서 처리된다
                 return new JobBuilder("auctionEndJob", jobRepository)
-                                .start(auctionEndStep())
-                                .preventRestart()
+                                .listener(auctionEndMetricsListener)
+                                .start(auctionEndFlow())
+                                .next(auctionSettlementStep())
+                                .end()
+                                .build();
+        }
+
+        /**
+         * 경량 종료 Job - 메타데이터를 DB에 남기지 않는 JobRepository로 실행 (auction.batch.metadata.mode=RESOURCELESS)
+         * <p>
+         * 재시작 상태가 없으므로 조건 자체로 멱등한 구간 UPDATE Step과 낙찰 확정 Step만 실행한다.
+         * 실패해도 다음 실행이 남은 대상을 다시 조회해 처리한다.
+         */
+        @Bean(defaultCandidate = false)
+        public Job auctionEndLightJob() {
+                return new JobBuilder("auctionEndLightJob", auctionEndLightJobRepository())
+                                .listener(auctionEndMetricsListener)
+                                .start(lightTaskletStep("auctionEndLightRangeUpdateStep", auctionEndRangeUpdateTasklet(null)))
+                                .next(lightTaskletStep("auctionSettlementLightStep", auctionSettlementTasklet()))
                                 .build();
         }
 
+        // 기본 JobRepository/JobLauncher 주입 대상이 되지 않도록 defaultCandidate = false
+        @Bean(defaultCandidate = false)
+        public JobRepository auctionEndLightJobRepository() {
+                return new ResourcelessJobRepository();
+        }
+
+        @Bean(defaultCandidate = false)
+        public JobLauncher auctionEndLightJobLauncher() throws Exception {
+                TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+                launcher.setJobRepository(auctionEndLightJobRepository());
+                launcher.afterPropertiesSet();
+                return launcher;
+        }
+
+        private Step lightTaskletStep(String name, Tasklet tasklet) {
+                return new StepBuilder(name, auctionEndLightJobRepository())
+                                .tasklet(tasklet, transactionManager)
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .build();
+        }
+
+        /**
+         * 종료 처리 Flow - endMode에 따라 하나의 종료 Step만 실행
+         */
+        private Flow auctionEndFlow() throws Exception {
+                return new FlowBuilder<Flow>("auctionEndFlow")
+                                .start(auctionEndModeDecider())
+                                .on(AuctionEndMode.PARTITIONED.name()).to(auctionEndPartitionedStep())
+                                .from(auctionEndModeDecider()).on(AuctionEndMode.RANGE_UPDATE.name()).to(auctionEndRangeUpdateStep())
+                                .from(auctionEndModeDecider()).on(AuctionEndMode.ID_BLOCK.name()).to(auctionEndIdBlockStep())
+                                .from(auctionEndModeDecider()).on("*").to(auctionEndStep())
+                                .build();
+        }
+
+        /**
+         * Job 파라미터 endMode 값으로 실행할 Step을 고른다. (없으면 CHUNK)
+         */
+        @Bean
+        public JobExecutionDecider auctionEndModeDecider() {
+                return (jobExecution, stepExecution) -> new FlowExecutionStatus(
+                                AuctionEndMode.from(jobExecution.getJobParameters()
+                                                .getString(AuctionEndMode.JOB_PARAMETER)).name());
+        }
+
         @Bean
         public Step auctionEndStep() throws Exception {
                 log.info("========== 경매 종료 Step 설정 ==========");
                 return new StepBuilder("auctionEndStep", jobRepository)
-                                .<AuctionEndDto, AuctionEndDto>chunk(CHUNK_SIZE, transactionManager)
+                                .<AuctionEndDto, AuctionEndDto>chunk(auctionEndChunkSizePolicy(), transactionManager)
                                 .reader(expiredAuctionJdbcReader(null))
                                 .writer(auctionWriter())
+                                .listener((ChunkListener) auctionEndChunkSizePolicy())
+                                .listener((ItemWriteListener<Object>) auctionEndChunkSizePolicy())
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .listener((ItemReadListener<Object>) auctionEndMetricsListener)
+                                .listener((ItemWriteListener<Object>) auctionEndMetricsListener)
                                 .taskExecutor(auctionEndJobTaskExecutor())
                                 .build();
         }
 
+        /**
+         * 종료 Step 공용 청크 크기 정책 - 싱글톤이라 실행 사이에도 측정한 크기가 유지된다
+         */
+        @Bean
+        public AdaptiveChunkSizePolicy auctionEndChunkSizePolicy() {
+                return new AdaptiveChunkSizePolicy(chunkInitialSize, chunkMinSize, chunkMaxSize, chunkTargetMillis);
+        }
+
         @Bean
         @StepScope
         public JdbcPagingItemReader<AuctionEndDto> expiredAuctionJdbcReader(
@@ -66,45 +210,254 @@ public class AuctionEndJobConfig {
 
                 log.info("========== Reader 설정: 만료된 경매 조회 (JDBC Paging) ==========");
 
-                SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
-                queryProvider.setDataSource(dataSource);
-                queryProvider.setSelectClause("a.id");
-                queryProvider.setFromClause("from auctions a");
-                queryProvider.setWhereClause("where a.status = :status AND a.end_time <= :currentTime");
-                queryProvider.setSortKey("id");
-
-                return new JdbcPagingItemReaderBuilder<AuctionEndDto>()
-                                .name("expiredAuctionJdbcReader")
-                                .pageSize(CHUNK_SIZE)
-                                .dataSource(dataSource)
-                                .rowMapper(new BeanPropertyRowMapper<>(AuctionEndDto.class)) // DTO 필드(id)에 맞춰 자동 매핑
-                                .queryProvider(queryProvider.getObject())
-                                .parameterValues(Map.of(
+                return expiredAuctionReader(
+                                "expiredAuctionJdbcReader",
+                                EXPIRED_WHERE_CLAUSE,
+                                Map.of(
                                                 "status", AuctionStatus.ACTIVE.name(),
-                                                "currentTime", LocalDateTime.parse(currentTime)))
-                                .saveState(false)
-                                .build();
+                                                "currentTime", LocalDateTime.parse(currentTime)),
+                                false); // 여러 스레드가 공유하므로 상태 저장 불가
         }
 
         @Bean
         public TaskExecutor auctionEndJobTaskExecutor() {
+                return batchWorkerExecutor("auction-end-thread-", 4);
+        }
+
+        /**
+         * 파티셔닝 Manager Step - id 범위를 gridSize 개로 나눠 워커 Step을 병렬 실행
+         */
+        @Bean
+        public Step auctionEndPartitionedStep() throws Exception {
+                log.info("========== 경매 종료 파티셔닝 Step 설정: gridSize={} ==========", gridSize);
+                return new StepBuilder("auctionEndPartitionedStep", jobRepository)
+                                .partitioner("auctionEndWorkerStep", auctionIdRangePartitioner(null))
+                                .step(auctionEndWorkerStep())
+                                .gridSize(gridSize)
+                                .taskExecutor(auctionEndPartitionTaskExecutor())
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public AuctionIdRangePartitioner auctionIdRangePartitioner(
+                        @Value("#{jobParameters['currentTime']}") String currentTime) {
+                return new AuctionIdRangePartitioner(new JdbcTemplate(batchScanDataSource), LocalDateTime.parse(currentTime));
+        }
+
+        /**
+         * 파티션 하나를 처리하는 워커 Step - 파티션마다 별도의 StepExecution과 Reader 상태를 가진다
+         */
+        @Bean
+        public Step auctionEndWorkerStep() throws Exception {
+                return new StepBuilder("auctionEndWorkerStep", jobRepository)
+                                .<AuctionEndDto, AuctionEndDto>chunk(auctionEndChunkSizePolicy(), transactionManager)
+                                .reader(expiredAuctionPartitionReader(null, null, null))
+                                .writer(auctionWriter())
+                                .listener((ChunkListener) auctionEndChunkSizePolicy())
+                                .listener((ItemWriteListener<Object>) auctionEndChunkSizePolicy())
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .listener((ItemReadListener<Object>) auctionEndMetricsListener)
+                                .listener((ItemWriteListener<Object>) auctionEndMetricsListener)
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public JdbcPagingItemReader<AuctionEndDto> expiredAuctionPartitionReader(
+                        @Value("#{jobParameters['currentTime']}") String currentTime,
+                        @Value("#{stepExecutionContext['minId']}") Long minId,
+                        @Value("#{stepExecutionContext['maxId']}") Long maxId) throws Exception {
+
+                log.info("========== Reader 설정: 파티션 id 범위 {} ~ {} ==========", minId, maxId);
+
+                return expiredAuctionReader(
+                                "expiredAuctionPartitionReader",
+                                EXPIRED_WHERE_CLAUSE + " AND a.id BETWEEN :minId AND :maxId",
+                                Map.of(
+                                                "status", AuctionStatus.ACTIVE.name(),
+                                                "currentTime", LocalDateTime.parse(currentTime),
+                                                "minId", minId,
+                                                "maxId", maxId),
+                                true); // 파티션 전용 Reader이므로 마지막 id를 저장해 재시작 지점으로 사용
+        }
+
+        @Bean
+        public TaskExecutor auctionEndPartitionTaskExecutor() {
+                return batchWorkerExecutor("auction-end-partition-", gridSize);
+        }
+
+        /**
+         * 배치 워커 실행기 - 가상 스레드 모드면 작업마다 가상 스레드를 만들되 동시 실행 수는 플랫폼 스레드 풀과 같게 제한한다.
+         * 워커마다 청크 트랜잭션 하나(커넥션 하나)를 잡으므로 스레드 수가 아니라 커넥션 풀이 실제 상한이다.
+         */
+        private TaskExecutor batchWorkerExecutor(String threadNamePrefix, int concurrency) {
+                if (virtualThreads) {
+                        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+                        executor.setVirtualThreads(true);
+                        executor.setConcurrencyLimit(concurrency);
+                        return executor;
+                }
                 ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-                executor.setCorePoolSize(4);
-                executor.setMaxPoolSize(4);
-                executor.setThreadNamePrefix("auction-end-thread-");
+                executor.setCorePoolSize(concurrency);
+                executor.setMaxPoolSize(concurrency);
+                executor.setThreadNamePrefix(threadNamePrefix);
                 executor.initialize();
                 return executor;
         }
 
+        /**
+         * 구간 UPDATE Step - id를 읽어오지 않고 id 구간별 UPDATE 한 문장으로 종료 처리
+         */
+        @Bean
+        public Step auctionEndRangeUpdateStep() {
+                log.info("========== 경매 종료 구간 UPDATE Step 설정: 구간 크기={} ==========", rangeWindowSize);
+                return new StepBuilder("auctionEndRangeUpdateStep", jobRepository)
+                                .tasklet(auctionEndRangeUpdateTasklet(null), transactionManager)
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .build();
+        }
+
         @Bean
         @StepScope
-        public JdbcBatchItemWriter<AuctionEndDto> auctionWriter() {
-                log.info("========== Writer 설정: JDBC 배치 업데이트 ==========");
+        public IdRangeUpdateTasklet auctionEndRangeUpdateTasklet(
+                        @Value("#{jobParameters['currentTime']}") String currentTime) {
+                return new IdRangeUpdateTasklet(
+                                new JdbcTemplate(dataSource),
+                                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM auctions WHERE status = 'ACTIVE' AND end_time <= ?",
+                                List.of(
+                                                // 종료 이벤트를 먼저 outbox에 남기고 같은 트랜잭션에서 상태 변경
+                                                "INSERT INTO auction_outbox (event_type, auction_id, created_at) " +
+                                                                "SELECT '" + AuctionOutboxEvent.AUCTION_ENDED + "', id, CURRENT_TIMESTAMP(3) FROM auctions " +
+                                                                "WHERE id BETWEEN ? AND ? AND status = 'ACTIVE' AND end_time <= ?",
+                                                "UPDATE auctions SET status = 'ENDED' WHERE id BETWEEN ? AND ? AND status = 'ACTIVE' AND end_time <= ?"),
+                                rangeWindowSize,
+                                LocalDateTime.parse(currentTime));
+        }
+
+        /**
+         * id 블록 Step - 청크 하나 = long[] 블록 하나, DTO/boxing 없이 읽고 JDBC 배치로 바로 바인딩
+         */
+        @Bean
+        public Step auctionEndIdBlockStep() {
+                log.info("========== 경매 종료 id 블록 Step 설정: 블록 크기={} ==========", idBlockSize);
+                return new StepBuilder("auctionEndIdBlockStep", jobRepository)
+                                .<long[], long[]>chunk(1, transactionManager)
+                                .reader(expiredAuctionIdBlockReader(null))
+                                .writer(auctionEndIdBlockWriter(null))
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .build();
+        }
 
+        @Bean
+        @StepScope
+        public ExpiredAuctionIdBlockReader expiredAuctionIdBlockReader(
+                        @Value("#{jobParameters['currentTime']}") String currentTime) {
+                return new ExpiredAuctionIdBlockReader(
+                                new JdbcTemplate(batchScanDataSource), LocalDateTime.parse(currentTime), idBlockSize);
+        }
+
+        @Bean
+        @StepScope
+        public AuctionEndIdBlockWriter auctionEndIdBlockWriter(
+                        @Value("#{stepExecution}") StepExecution stepExecution) {
+                return new AuctionEndIdBlockWriter(new JdbcTemplate(dataSource), stepExecution);
+        }
+
+        /**
+         * 낙찰 확정 Step - 종료된 경매의 최고가 입찰자(leading_bidder_id)를 id 구간 단위 UPDATE로 winner_id에 반영
+         * (최종가는 입찰 시점에 current_price로 이미 반영되어 있어 bids를 JOIN하지 않는다)
+         * <p>
+         * 대상은 종료 시각이 아니라 상태로 고르므로 배치가 오래 멈췄다 돌아와도 밀린 경매를 모두 확정한다.
+         */
+        @Bean
+        public Step auctionSettlementStep() {
+                log.info("========== 낙찰 확정 Step 설정 ==========");
+                return new StepBuilder("auctionSettlementStep", jobRepository)
+                                .tasklet(auctionSettlementTasklet(), transactionManager)
+                                .listener((StepExecutionListener) auctionEndMetricsListener)
+                                .listener((ChunkListener) auctionEndMetricsListener)
+                                .listener(leaseFencingChunkListener)
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public IdRangeUpdateTasklet auctionSettlementTasklet() {
+                // 미확정 = ENDED이면서 입찰자는 있는데 winner_id가 비어 있는 경매 (입찰이 없는 경매는 leading_bidder_id가 NULL이라 제외)
+                // idx_settlement (status, winner_id, leading_bidder_id)로 확정된 경매와 입찰 없는 경매를 건너뛰고 미확정 경매만 읽는다
+                return new IdRangeUpdateTasklet(
+                                new JdbcTemplate(dataSource),
+                                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM auctions " +
+                                                "WHERE status = 'ENDED' AND winner_id IS NULL AND leading_bidder_id IS NOT NULL",
+                                "UPDATE auctions SET winner_id = leading_bidder_id " +
+                                                "WHERE id BETWEEN ? AND ? AND status = 'ENDED' AND winner_id IS NULL " +
+                                                "AND leading_bidder_id IS NOT NULL",
+                                rangeWindowSize);
+        }
+
+        /**
+         * 종료 Writer - 종료 이벤트 outbox INSERT와 상태 UPDATE를 같은 청크 트랜잭션에서 순서대로 실행
+         */
+        @Bean
+        @StepScope
+        public CompositeItemWriter<AuctionEndDto> auctionWriter() {
+                log.info("========== Writer 설정: outbox INSERT + JDBC 배치 업데이트 ==========");
+
+                return new CompositeItemWriterBuilder<AuctionEndDto>()
+                                .delegates(auctionEndOutboxWriter(), auctionStatusWriter())
+                                .build();
+        }
+
+        @Bean
+        public JdbcBatchItemWriter<AuctionEndDto> auctionEndOutboxWriter() {
+                // 다른 경로(타이밍 휠 등)에서 이미 종료된 경매는 이벤트를 중복으로 남기지 않도록 ACTIVE일 때만 INSERT
+                return new JdbcBatchItemWriterBuilder<AuctionEndDto>()
+                                .dataSource(dataSource)
+                                .sql("INSERT INTO auction_outbox (event_type, auction_id, created_at) " +
+                                                "SELECT '" + AuctionOutboxEvent.AUCTION_ENDED + "', id, CURRENT_TIMESTAMP(3) FROM auctions " +
+                                                "WHERE id = :id AND status = 'ACTIVE'")
+                                .beanMapped()
+                                .assertUpdates(false)
+                                .build();
+        }
+
+        @Bean
+        public JdbcBatchItemWriter<AuctionEndDto> auctionStatusWriter() {
                 return new JdbcBatchItemWriterBuilder<AuctionEndDto>()
                                 .dataSource(dataSource)
-                                .sql("UPDATE auctions SET status = 'ENDED' WHERE id = :id")
+                                // slave에서 읽은 후보일 수 있으므로 master에서 ACTIVE인지 다시 확인 (이미 종료된 경매는 0건)
+                                .sql("UPDATE auctions SET status = 'ENDED' WHERE id = :id AND status = 'ACTIVE'")
                                 .beanMapped()
+                                .assertUpdates(false)
+                                .build();
+        }
+
+        private JdbcPagingItemReader<AuctionEndDto> expiredAuctionReader(
+                        String name, String whereClause, Map<String, Object> parameterValues, boolean saveState)
+                        throws Exception {
+
+                SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+                queryProvider.setDataSource(batchScanDataSource);
+                queryProvider.setSelectClause("a.id");
+                queryProvider.setFromClause("from auctions a");
+                queryProvider.setWhereClause(whereClause);
+                queryProvider.setSortKey("id");
+
+                return new JdbcPagingItemReaderBuilder<AuctionEndDto>()
+                                .name(name)
+                                .pageSize(chunkMaxSize) // 청크 크기가 바뀌어도 페이지 조회 횟수는 일정하게
+                                .dataSource(batchScanDataSource)
+                                .rowMapper(new BeanPropertyRowMapper<>(AuctionEndDto.class)) // DTO 필드(id)에 맞춰 자동 매핑
+                                .queryProvider(queryProvider.getObject())
+                                .parameterValues(parameterValues)
+                                .saveState(saveState)
                                 .build();
         }
 }
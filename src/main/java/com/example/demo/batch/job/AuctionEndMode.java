@@ -0,0 +1,17 @@
+package com.example.demo.batch.job;
+
+/**
+ * 경매 종료 Job 실행 방식 - Job 파라미터(endMode)로 선택
+ */
+public enum AuctionEndMode {
+    CHUNK,        // 하나의 Reader를 여러 스레드가 공유하는 멀티스레드 청크 처리 (기존 방식)
+    PARTITIONED,  // id 범위로 파티셔닝, 파티션마다 독립된 Reader와 재시작 상태를 가짐
+    RANGE_UPDATE, // id를 읽지 않고 id 구간별 UPDATE 문 하나로 종료 처리
+    ID_BLOCK;     // id를 DTO 없이 long[] 블록으로 읽고 JDBC 배치로 바로 바인딩 (단일 스레드)
+
+    public static final String JOB_PARAMETER = "endMode";
+
+    public static AuctionEndMode from(String value) {
+        return value == null ? CHUNK : valueOf(value);
+    }
+}
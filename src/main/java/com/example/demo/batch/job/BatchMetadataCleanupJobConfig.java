@@ -0,0 +1,67 @@
+package com.example.demo.batch.job;
+
+import com.example.demo.batch.tasklet.BatchMetadataCleanupTasklet;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 배치 메타데이터 보관 Job - 보관 기간이 지난 BATCH_* 행을 조금씩 삭제해 Job 실행 비용이 테이블 크기와 함께 늘지 않게 한다
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BatchMetadataCleanupJobConfig {
+
+        private final JobRepository jobRepository;
+        @Qualifier("batchTransactionManager")
+        private final PlatformTransactionManager transactionManager;
+        @Qualifier("batchDataSource")
+        private final DataSource dataSource;
+
+        // 이 기간보다 오래된 종료된 실행 이력을 삭제
+        @Value("${auction.batch.metadata.retention-days:7}")
+        private long retentionDays;
+
+        // 트랜잭션 하나에서 삭제할 JobExecution 수
+        @Value("${auction.batch.metadata.cleanup-batch-size:500}")
+        private int cleanupBatchSize;
+
+        @Bean
+        public Job batchMetadataCleanupJob() {
+                log.info("========== 배치 메타데이터 정리 Job 설정: 보관 {}일 ==========", retentionDays);
+                return new JobBuilder("batchMetadataCleanupJob", jobRepository)
+                                .start(batchMetadataCleanupStep())
+                                .build();
+        }
+
+        @Bean
+        public Step batchMetadataCleanupStep() {
+                return new StepBuilder("batchMetadataCleanupStep", jobRepository)
+                                .tasklet(batchMetadataCleanupTasklet(null), transactionManager)
+                                .build();
+        }
+
+        @Bean
+        @StepScope
+        public BatchMetadataCleanupTasklet batchMetadataCleanupTasklet(
+                        @Value("#{jobParameters['currentTime']}") String currentTime) {
+                return new BatchMetadataCleanupTasklet(
+                                new NamedParameterJdbcTemplate(dataSource),
+                                LocalDateTime.parse(currentTime).minusDays(retentionDays),
+                                cleanupBatchSize);
+        }
+}
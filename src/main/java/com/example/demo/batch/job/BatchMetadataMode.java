@@ -0,0 +1,9 @@
+package com.example.demo.batch.job;
+
+/**
+ * 매분 실행되는 경매 종료 배치의 메타데이터 저장 방식
+ */
+public enum BatchMetadataMode {
+    JDBC,         // BATCH_* 테이블에 실행 이력 저장 (재시작, 파티션 이어서 처리 가능)
+    RESOURCELESS  // 메모리에만 유지, 실행마다 메타데이터 INSERT/SELECT 없음 (조건부 구간 UPDATE Step만 실행)
+}
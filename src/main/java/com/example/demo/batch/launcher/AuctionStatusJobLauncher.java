@@ -0,0 +1,107 @@
+package com.example.demo.batch.launcher;
+
+import com.example.demo.batch.job.AuctionEndMode;
+import com.example.demo.exception.BatchJobAlreadyRunningException;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 요청으로 경매 상태 배치를 비동기 실행한다.
+ * Job은 별도 스레드에서 실행되고, 호출자는 생성된 JobExecution(id)만 즉시 돌려받는다.
+ * <p>
+ * 스케줄러가 쓰는 동기 JobLauncher 빈과 섞이지 않도록 비동기 런처는 빈으로 등록하지 않고 내부에서만 사용한다.
+ * <p>
+ * 시작/종료 배치 중 하나라도 이미 실행 중이면(스케줄 실행 포함, 메타데이터 기준) 둘 다 띄우지 않고 거절하며,
+ * Job마다 동시 실행 1개로 제한한 실행기를 따로 두어 요청이 몰려도 스레드가 늘어나지 않는다.
+ */
+@Slf4j
+@Component
+public class AuctionStatusJobLauncher {
+
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher activationJobLauncher;
+    private final TaskExecutorJobLauncher endJobLauncher;
+    private final Job auctionActivationJob;
+    private final Job auctionEndJob;
+
+    @Value("${auction.batch.end.mode:PARTITIONED}")
+    private AuctionEndMode endMode;
+
+    public AuctionStatusJobLauncher(JobRepository jobRepository,
+                                    JobExplorer jobExplorer,
+                                    @Qualifier("auctionActivationJob") Job auctionActivationJob,
+                                    @Qualifier("auctionEndJob") Job auctionEndJob) throws Exception {
+        this.jobExplorer = jobExplorer;
+        this.auctionActivationJob = auctionActivationJob;
+        this.auctionEndJob = auctionEndJob;
+        this.activationJobLauncher = singleExecutionLauncher(jobRepository, "auction-activation-job-");
+        this.endJobLauncher = singleExecutionLauncher(jobRepository, "auction-end-job-");
+    }
+
+    /**
+     * 경매 시작 배치와 종료 배치를 함께 실행한다 - 둘 다 실행 중이 아닌지 먼저 확인해, 한쪽만 실행된 채 거절되지 않게 한다
+     *
+     * @throws BatchJobAlreadyRunningException 둘 중 하나라도 이미 실행 중인 경우 (아무것도 실행하지 않음)
+     */
+    public synchronized StatusJobExecutions launchStatusJobs() throws Exception {
+        rejectIfRunning(auctionActivationJob);
+        rejectIfRunning(auctionEndJob);
+        return new StatusJobExecutions(launchActivationJob(), launchEndJob());
+    }
+
+    private JobExecution launchActivationJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("currentTime", LocalDateTime.now().toString())
+                .addLocalDateTime("executionTime", LocalDateTime.now())
+                .toJobParameters();
+
+        JobExecution execution = activationJobLauncher.run(auctionActivationJob, jobParameters);
+        log.info("경매 시작 배치 비동기 실행: executionId={}", execution.getId());
+        return execution;
+    }
+
+    private JobExecution launchEndJob() throws Exception {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("currentTime", LocalDateTime.now().toString())
+                .addLocalDateTime("executionTime", LocalDateTime.now())
+                .addString(AuctionEndMode.JOB_PARAMETER, endMode.name(), false)
+                .toJobParameters();
+
+        JobExecution execution = endJobLauncher.run(auctionEndJob, jobParameters);
+        log.info("경매 종료 배치 비동기 실행: executionId={}", execution.getId());
+        return execution;
+    }
+
+    // run()이 JobExecution을 저장한 뒤 반환하므로, 같은 노드의 연속 요청도 다음 확인에서 실행 중으로 보인다
+    private void rejectIfRunning(Job job) {
+        if (!jobExplorer.findRunningJobExecutions(job.getName()).isEmpty()) {
+            throw new BatchJobAlreadyRunningException(job.getName());
+        }
+    }
+
+    public record StatusJobExecutions(JobExecution activation, JobExecution end) {
+    }
+
+    private static TaskExecutorJobLauncher singleExecutionLauncher(JobRepository jobRepository, String threadNamePrefix)
+            throws Exception {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setConcurrencyLimit(1);
+
+        TaskExecutorJobLauncher launcher = new TaskExecutorJobLauncher();
+        launcher.setJobRepository(jobRepository);
+        launcher.setTaskExecutor(executor);
+        launcher.afterPropertiesSet();
+        return launcher;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.demo.batch.lease;
+
+import com.example.demo.exception.LeaseLostException;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청크 트랜잭션을 시작할 때 Job의 fencingToken이 아직 현재 lease 토큰인지 확인한다.
+ * <p>
+ * 청크 트랜잭션 안에서 lease 행을 공유 락(FOR SHARE)으로 읽으므로, 다른 노드가 lease를 넘겨받으며
+ * 토큰을 올리는 UPDATE는 이 청크가 커밋될 때까지 기다린다. 토큰이 바뀌었다면 예외로 청크를 롤백해
+ * 이전 보유자의 쓰기가 새 보유자의 작업과 섞이지 않게 한다.
+ * <p>
+ * lease 없이 실행된 Job(API 수동 실행, 테스트)은 fencingToken 파라미터가 없으므로 확인하지 않는다.
+ */
+@Slf4j
+@Component
+public class LeaseFencingChunkListener implements ChunkListener {
+
+    private static final String CURRENT_TOKEN_SQL =
+            "SELECT fencing_token FROM scheduler_lease WHERE lease_name = ? FOR SHARE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 청크 트랜잭션과 같은 커넥션을 쓰도록 Writer와 동일한 배치 DataSource 사용
+    public LeaseFencingChunkListener(@Qualifier("batchDataSource") DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        Map<String, Object> jobParameters = context.getStepContext().getJobParameters();
+        Object leaseName = jobParameters.get(SchedulerLease.LEASE_NAME_PARAMETER);
+        Object fencingToken = jobParameters.get(SchedulerLease.FENCING_TOKEN_PARAMETER);
+        if (leaseName == null || fencingToken == null) {
+            return;
+        }
+
+        long expected = ((Number) fencingToken).longValue();
+        List<Long> current = jdbcTemplate.queryForList(CURRENT_TOKEN_SQL, Long.class, leaseName);
+        if (current.isEmpty() || current.get(0) != expected) {
+            log.warn("lease가 다른 노드로 넘어가 청크를 중단합니다: lease={}, jobToken={}, currentToken={}",
+                    leaseName, expected, current.isEmpty() ? null : current.get(0));
+            throw new LeaseLostException(leaseName.toString(), expected);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.batch.lease;
+
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+/**
+ * 획득한 스케줄러 lease - fencingToken은 lease가 넘어갈 때마다 1씩 증가한다
+ */
+public record SchedulerLease(String name, String ownerId, long fencingToken) {
+
+    public static final String LEASE_NAME_PARAMETER = "leaseName";
+    public static final String FENCING_TOKEN_PARAMETER = "fencingToken";
+
+    /**
+     * 배치 쓰기 전에 lease 소유를 확인할 수 있도록 Job에 넘기는 파라미터 (JobInstance 식별에는 쓰지 않음)
+     */
+    public JobParameters toJobParameters() {
+        return new JobParametersBuilder()
+                .addString(LEASE_NAME_PARAMETER, name, false)
+                .addLong(FENCING_TOKEN_PARAMETER, fencingToken, false)
+                .toJobParameters();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.batch.lease;
+
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * master DB의 scheduler_lease 테이블로 여러 인스턴스 중 한 노드만 스케줄 슬롯을 실행하도록 한다.
+ * <p>
+ * 슬롯(예: 실행 분)마다 lease를 획득한 노드만 작업을 실행하고, 같은 슬롯은 다른 노드가 다시 실행하지 않는다.
+ * 실행 중에는 TTL의 1/3 주기로 lease를 갱신하며, 보유 노드가 죽어 갱신이 끊기면 TTL 이후 다른 노드가 넘겨받는다.
+ * 넘겨받을 때마다 fencingToken이 증가하므로, 늦게 깨어난 이전 보유자의 쓰기는 {@link LeaseFencingChunkListener}가 막는다.
+ * <p>
+ * 만료 판단은 노드 간 시계 차이가 없도록 DB 시간(NOW(3))으로 한다.
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+
+    private static final String ENSURE_ROW_SQL =
+            "INSERT IGNORE INTO scheduler_lease (lease_name, owner_id, fencing_token, last_slot, expires_at) " +
+                    "VALUES (?, '', 0, '', NOW(3))";
+    // 아직 실행하지 않은 슬롯이고, 만료됐거나 내가 가진 lease일 때만 가져온다
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduler_lease SET owner_id = ?, fencing_token = fencing_token + 1, last_slot = ?, " +
+                    "expires_at = NOW(3) + INTERVAL ? SECOND " +
+                    "WHERE lease_name = ? AND last_slot <> ? AND (expires_at < NOW(3) OR owner_id = ?)";
+    private static final String TOKEN_SQL =
+            "SELECT fencing_token FROM scheduler_lease WHERE lease_name = ? AND owner_id = ?";
+    private static final String RENEW_SQL =
+            "UPDATE scheduler_lease SET expires_at = NOW(3) + INTERVAL ? SECOND " +
+                    "WHERE lease_name = ? AND owner_id = ? AND fencing_token = ?";
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_lease SET expires_at = NOW(3) " +
+                    "WHERE lease_name = ? AND owner_id = ? AND fencing_token = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId;
+    private final long ttlSeconds;
+    private final ScheduledExecutorService keepAliveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scheduler-lease-keepalive");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SchedulerLeaseManager(@Qualifier("schedulerDataSource") DataSource schedulerDataSource,
+                                 @Value("${auction.scheduler.node-id:}") String nodeId,
+                                 @Value("${auction.scheduler.lease.ttl-seconds:30}") long ttlSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(schedulerDataSource);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.ttlSeconds = ttlSeconds;
+        log.info("스케줄러 노드 ID: {}", this.nodeId);
+    }
+
+    /**
+     * lease를 획득하면 갱신하면서 task를 실행하고, 끝나면 반납한다.
+     *
+     * @return 이 노드가 실행했으면 true, 다른 노드가 보유 중이거나 이미 실행된 슬롯이면 false
+     */
+    public boolean runExclusively(String leaseName, String slot, LeasedTask task) throws Exception {
+        Optional<SchedulerLease> acquired = tryAcquire(leaseName, slot);
+        if (acquired.isEmpty()) {
+            log.debug("lease 획득 실패, 실행 건너뜀: lease={}, slot={}", leaseName, slot);
+            return false;
+        }
+
+        SchedulerLease lease = acquired.get();
+        long renewPeriod = Math.max(ttlSeconds * 1000 / 3, 1L);
+        ScheduledFuture<?> keepAlive = keepAliveExecutor.scheduleAtFixedRate(
+                () -> renew(lease), renewPeriod, renewPeriod, TimeUnit.MILLISECONDS);
+        try {
+            task.run(lease);
+            return true;
+        } finally {
+            keepAlive.cancel(false);
+            release(lease);
+        }
+    }
+
+    public Optional<SchedulerLease> tryAcquire(String leaseName, String slot) {
+        jdbcTemplate.update(ENSURE_ROW_SQL, leaseName);
+        int updated = jdbcTemplate.update(ACQUIRE_SQL, nodeId, slot, ttlSeconds, leaseName, slot, nodeId);
+        if (updated == 0) {
+            return Optional.empty();
+        }
+
+        Long token = jdbcTemplate.queryForObject(TOKEN_SQL, Long.class, leaseName, nodeId);
+        log.info("lease 획득: lease={}, slot={}, fencingToken={}", leaseName, slot, token);
+        return Optional.of(new SchedulerLease(leaseName, nodeId, token));
+    }
+
+    private void renew(SchedulerLease lease) {
+        try {
+            int updated = jdbcTemplate.update(RENEW_SQL, ttlSeconds, lease.name(), lease.ownerId(), lease.fencingToken());
+            if (updated == 0) {
+                log.warn("lease 갱신 실패 - 다른 노드가 넘겨받았습니다: lease={}, fencingToken={}",
+                        lease.name(), lease.fencingToken());
+            }
+        } catch (Exception e) {
+            log.warn("lease 갱신 중 오류: lease={}", lease.name(), e);
+        }
+    }
+
+    private void release(SchedulerLease lease) {
+        try {
+            jdbcTemplate.update(RELEASE_SQL, lease.name(), lease.ownerId(), lease.fencingToken());
+        } catch (Exception e) {
+            log.warn("lease 반납 중 오류 (TTL 이후 자동 만료): lease={}", lease.name(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        keepAliveExecutor.shutdownNow();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @FunctionalInterface
+    public interface LeasedTask {
+        void run(SchedulerLease lease) throws Exception;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.demo.batch.listener;
+
+import com.example.demo.batch.idblock.AuctionEndIdBlockWriter;
+import com.example.demo.batch.job.AuctionEndMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매 종료 Job 계측 - Micrometer로 기록해 /actuator/prometheus, /actuator/metrics 로 노출한다.
+ * <ul>
+ *   <li>auction.batch.job.duration: Job 실행 시간 (job, mode, status)</li>
+ *   <li>auction.batch.items.written / auction.batch.step.throughput: Step별 처리 건수 누계와 마지막 실행의 초당 처리 건수</li>
+ *   <li>auction.batch.chunk.duration: 청크 트랜잭션 시간 (시작 ~ 커밋 완료) 히스토그램</li>
+ *   <li>auction.batch.chunk.rollbacks: 롤백된 청크 수</li>
+ *   <li>auction.batch.items.read / auction.batch.write.duration: 읽은 건수, 청크 쓰기 시간</li>
+ *   <li>auction.batch.end.close.lag: 종료 시간이 지났는데 아직 ACTIVE인 가장 오래된 경매의 지연(초)</li>
+ * </ul>
+ * 청크/쓰기 시간은 스레드별로 측정하므로 멀티스레드 Step과 파티션 워커에 같은 인스턴스를 등록해도 된다.
+ */
+@Slf4j
+@Component
+public class AuctionEndMetricsListener implements JobExecutionListener, StepExecutionListener, ChunkListener,
+        ItemReadListener<Object>, ItemWriteListener<Object> {
+
+    private static final String OLDEST_UNCLOSED_SQL =
+            "SELECT MIN(end_time) FROM auctions WHERE status = 'ACTIVE' AND end_time <= ?";
+
+    private final MeterRegistry meterRegistry;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter itemsRead;
+    private final AtomicLong closeLagSeconds = new AtomicLong();
+    private final Map<String, AtomicLong> throughputByStep = new ConcurrentHashMap<>();
+    private final ThreadLocal<Timer.Sample> chunkSample = new ThreadLocal<>();
+    private final ThreadLocal<Timer.Sample> writeSample = new ThreadLocal<>();
+
+    public AuctionEndMetricsListener(MeterRegistry meterRegistry, @Qualifier("batchDataSource") DataSource dataSource) {
+        this.meterRegistry = meterRegistry;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.itemsRead = Counter.builder("auction.batch.items.read").register(meterRegistry);
+        Gauge.builder("auction.batch.end.close.lag", closeLagSeconds, AtomicLong::get)
+                .description("종료 시간이 지났지만 아직 종료 처리되지 않은 가장 오래된 경매의 지연")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // ===== Job =====
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        refreshCloseLag();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        refreshCloseLag();
+
+        if (jobExecution.getStartTime() == null || jobExecution.getEndTime() == null) {
+            return;
+        }
+        Timer.builder("auction.batch.job.duration")
+                .tag("job", jobExecution.getJobInstance().getJobName())
+                .tag("mode", AuctionEndMode.from(
+                        jobExecution.getJobParameters().getString(AuctionEndMode.JOB_PARAMETER)).name())
+                .tag("status", jobExecution.getStatus().name())
+                .register(meterRegistry)
+                .record(Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime()));
+    }
+
+    // ===== Step =====
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        String step = stepName(stepExecution.getStepName());
+        // id 블록 Step은 writeCount가 블록 수이므로 Writer가 기록한 실제 종료 건수를 사용
+        long written = stepExecution.getExecutionContext().containsKey(AuctionEndIdBlockWriter.ENDED_COUNT_KEY)
+                ? stepExecution.getExecutionContext().getLong(AuctionEndIdBlockWriter.ENDED_COUNT_KEY)
+                : stepExecution.getWriteCount();
+
+        Counter.builder("auction.batch.items.written")
+                .tag("step", step)
+                .register(meterRegistry)
+                .increment(written);
+
+        if (stepExecution.getStartTime() != null) {
+            long millis = Math.max(Duration.between(stepExecution.getStartTime(), LocalDateTime.now()).toMillis(), 1L);
+            double itemsPerSecond = written * 1000.0 / millis;
+            throughput(step).set(Double.doubleToLongBits(itemsPerSecond));
+            log.info("Step 처리량: step={}, {}건, {}ms, {} items/sec",
+                    stepExecution.getStepName(), written, millis, String.format("%.1f", itemsPerSecond));
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    // ===== Chunk (트랜잭션 안에서 시작, afterChunk는 커밋 이후 호출) =====
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkSample.set(Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        stopChunk(context, "committed");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        stopChunk(context, "rolled_back");
+        Counter.builder("auction.batch.chunk.rollbacks")
+                .tag("step", stepName(context))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void stopChunk(ChunkContext context, String outcome) {
+        Timer.Sample sample = chunkSample.get();
+        if (sample == null) {
+            return;
+        }
+        chunkSample.remove();
+        sample.stop(Timer.builder("auction.batch.chunk.duration")
+                .tag("step", stepName(context))
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    // ===== Read / Write =====
+
+    @Override
+    public void afterRead(Object item) {
+        itemsRead.increment();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        writeSample.set(Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        stopWrite("success");
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        stopWrite("error");
+    }
+
+    private void stopWrite(String outcome) {
+        Timer.Sample sample = writeSample.get();
+        if (sample == null) {
+            return;
+        }
+        writeSample.remove();
+        sample.stop(Timer.builder("auction.batch.write.duration")
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    private void refreshCloseLag() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime oldest = jdbcTemplate.queryForObject(OLDEST_UNCLOSED_SQL, LocalDateTime.class, now);
+        closeLagSeconds.set(oldest == null ? 0L : Duration.between(oldest, now).toSeconds());
+    }
+
+    private AtomicLong throughput(String step) {
+        return throughputByStep.computeIfAbsent(step, name -> {
+            AtomicLong value = new AtomicLong(Double.doubleToLongBits(0.0));
+            Gauge.builder("auction.batch.step.throughput", value, v -> Double.longBitsToDouble(v.get()))
+                    .description("마지막 Step 실행의 초당 처리 건수")
+                    .tag("step", name)
+                    .baseUnit("items/s")
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private String stepName(ChunkContext context) {
+        return stepName(context.getStepContext().getStepName());
+    }
+
+    // 파티션 워커 Step 이름(auctionEndWorkerStep:partition0)은 태그 값이 늘어나지 않도록 파티션 번호를 뗀다
+    private String stepName(String name) {
+        int separator = name.indexOf(':');
+        return separator < 0 ? name : name.substring(0, separator);
+    }
+}
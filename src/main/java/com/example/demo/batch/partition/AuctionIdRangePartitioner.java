@@ -0,0 +1,78 @@
+package com.example.demo.batch.partition;
+
+import com.example.demo.entity.AuctionStatus;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 만료된 ACTIVE 경매의 id 범위(MIN ~ MAX)를 gridSize 개의 연속 구간으로 나눈다.
+ * 각 구간은 워커 Step 하나가 담당하며, 구간 정보는 파티션 ExecutionContext에 저장되어 재시작 시 그대로 재사용된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuctionIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalDateTime currentTime;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM auctions WHERE status = ? AND end_time <= ?",
+                AuctionStatus.ACTIVE.name(), currentTime);
+
+        Number minId = (Number) bounds.get("min_id");
+        Number maxId = (Number) bounds.get("max_id");
+
+        if (minId == null || maxId == null) {
+            log.info("파티셔닝 대상 경매 없음: 기준 시각={}", currentTime);
+            return split(0L, -1L, 1);
+        }
+
+        log.info("파티셔닝: id 범위 {} ~ {}, gridSize={}", minId, maxId, gridSize);
+        return split(minId.longValue(), maxId.longValue(), gridSize);
+    }
+
+    /**
+     * [minId, maxId] 구간을 최대 gridSize 개로 균등 분할한다. 구간이 비어 있으면 빈 파티션 하나를 돌려준다.
+     */
+    static Map<String, ExecutionContext> split(long minId, long maxId, int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        if (maxId < minId) {
+            partitions.put(PARTITION_PREFIX + 0, rangeContext(minId, maxId));
+            return partitions;
+        }
+
+        long rangeSize = maxId - minId + 1;
+        long partitionSize = (rangeSize + gridSize - 1) / gridSize;
+
+        for (int i = 0; i < gridSize; i++) {
+            long start = minId + i * partitionSize;
+            if (start > maxId) {
+                break;
+            }
+            long end = Math.min(start + partitionSize - 1, maxId);
+            partitions.put(PARTITION_PREFIX + i, rangeContext(start, end));
+        }
+        return partitions;
+    }
+
+    private static ExecutionContext rangeContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID_KEY, minId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+}
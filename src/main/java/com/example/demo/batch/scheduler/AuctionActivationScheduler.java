@@ -0,0 +1,62 @@
+package com.example.demo.batch.scheduler;
+
+import com.example.demo.batch.lease.SchedulerLease;
+import com.example.demo.batch.lease.SchedulerLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionActivationScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job auctionActivationJob;
+    private final JobRestartSupport jobRestartSupport;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+
+    @Scheduled(cron = "30 * * * * *")  // 매분 30초에 실행 (경매 종료 배치와 시점을 분산)
+    public void runAuctionActivationJob() {
+        try {
+            String slot = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString();
+            boolean executed = schedulerLeaseManager.runExclusively("auctionActivationJob", slot, this::runWithLease);
+            if (!executed) {
+                log.info("다른 노드가 이번 경매 시작 배치를 실행합니다: slot={}", slot);
+            }
+
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn("이전 경매 시작 배치가 아직 실행 중입니다. 다음 스케줄까지 대기합니다.", e);
+
+        } catch (Exception e) {
+            log.error("경매 시작 배치 실행 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void runWithLease(SchedulerLease lease) throws Exception {
+        log.info("========== 경매 시작 배치 스케줄 시작: {} (fencingToken={}) ==========",
+                LocalDateTime.now(), lease.fencingToken());
+
+        jobRestartSupport.restartIfFailed(auctionActivationJob, jobLauncher, lease.toJobParameters());
+
+        JobParameters jobParameters = new JobParametersBuilder(lease.toJobParameters())
+                .addString("currentTime", LocalDateTime.now().toString())
+                .addLocalDateTime("executionTime", LocalDateTime.now()) // Job 재실행 방지용 유니크 키
+                .toJobParameters();
+
+        jobLauncher.run(auctionActivationJob, jobParameters);
+
+        log.info("========== 경매 시작 배치 스케줄 완료: {} ==========", LocalDateTime.now());
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.demo.batch.scheduler;
 
+import com.example.demo.batch.job.AuctionEndMode;
+import com.example.demo.batch.job.BatchMetadataMode;
+import com.example.demo.batch.lease.SchedulerLease;
+import com.example.demo.batch.lease.SchedulerLeaseManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -10,10 +14,13 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 
 @Slf4j
@@ -23,21 +30,30 @@ public class AuctionEndScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job auctionEndJob;
+    private final JobRestartSupport jobRestartSupport;
+    private final SchedulerLeaseManager schedulerLeaseManager;
 
+    @Qualifier("auctionEndLightJob")
+    private final Job auctionEndLightJob;
 
-    @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
-    public void runAuctionEndJob() {
-        try {
-            log.info("========== 경매 종료 배치 스케줄 시작: {} ==========", LocalDateTime.now());
+    @Qualifier("auctionEndLightJobLauncher")
+    private final JobLauncher auctionEndLightJobLauncher;
 
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("currentTime", LocalDateTime.now().toString()) // Reader에서 LocalDateTime.parse()를 사용하기 위해 String으로 전달
-                    .addLocalDateTime("executionTime", LocalDateTime.now()) // Job 재실행 방지용 유니크 키
-                    .toJobParameters();
+    @Value("${auction.batch.end.mode:PARTITIONED}")
+    private AuctionEndMode endMode;
 
-            jobLauncher.run(auctionEndJob, jobParameters);
+    @Value("${auction.batch.metadata.mode:JDBC}")
+    private BatchMetadataMode metadataMode;
 
-            log.info("========== 경매 종료 배치 스케줄 완료: {} ==========", LocalDateTime.now());
+    @Scheduled(cron = "0 * * * * *")  // 매분 0초에 실행
+    public void runAuctionEndJob() {
+        try {
+            // 여러 인스턴스 중 이번 분(slot)의 lease를 획득한 노드 하나만 실행
+            String slot = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).toString();
+            boolean executed = schedulerLeaseManager.runExclusively("auctionEndJob", slot, this::runWithLease);
+            if (!executed) {
+                log.info("다른 노드가 이번 경매 종료 배치를 실행합니다: slot={}", slot);
+            }
 
         } catch (JobExecutionAlreadyRunningException e) {
             log.warn("이전 배치가 아직 실행 중입니다. 다음 스케줄까지 대기합니다.", e);
@@ -55,4 +71,31 @@ public class AuctionEndScheduler {
             log.error("예상치 못한 오류가 발생했습니다.", e);
         }
     }
+
+    private void runWithLease(SchedulerLease lease) throws Exception {
+        log.info("========== 경매 종료 배치 스케줄 시작: {} (fencingToken={}) ==========",
+                LocalDateTime.now(), lease.fencingToken());
+
+        if (metadataMode == BatchMetadataMode.RESOURCELESS) {
+            // 메타데이터 INSERT/SELECT 없이 실행 - 재시작할 실행 이력이 없으므로 restartIfFailed 생략
+            auctionEndLightJobLauncher.run(auctionEndLightJob, new JobParametersBuilder(lease.toJobParameters())
+                    .addString("currentTime", LocalDateTime.now().toString())
+                    .toJobParameters());
+            log.info("========== 경매 종료 배치 스케줄 완료 (경량 실행): {} ==========", LocalDateTime.now());
+            return;
+        }
+
+        // 직전 실행이 실패했다면 중단된 파티션부터 먼저 마무리 (새 lease 토큰으로 실행)
+        jobRestartSupport.restartIfFailed(auctionEndJob, jobLauncher, lease.toJobParameters());
+
+        JobParameters jobParameters = new JobParametersBuilder(lease.toJobParameters())
+                .addString("currentTime", LocalDateTime.now().toString()) // Reader에서 LocalDateTime.parse()를 사용하기 위해 String으로 전달
+                .addLocalDateTime("executionTime", LocalDateTime.now()) // Job 재실행 방지용 유니크 키
+                .addString(AuctionEndMode.JOB_PARAMETER, endMode.name(), false)
+                .toJobParameters();
+
+        jobLauncher.run(auctionEndJob, jobParameters);
+
+        log.info("========== 경매 종료 배치 스케줄 완료: {} ==========", LocalDateTime.now());
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.demo.batch.scheduler;
+
+import com.example.demo.batch.lease.SchedulerLease;
+import com.example.demo.batch.lease.SchedulerLeaseManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchMetadataCleanupScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job batchMetadataCleanupJob;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Scheduled(cron = "${auction.batch.metadata.cleanup-cron:0 15 4 * * *}")  // 기본: 매일 04:15
+    public void runBatchMetadataCleanupJob() {
+        try {
+            String slot = LocalDate.now().toString();
+            schedulerLeaseManager.runExclusively("batchMetadataCleanupJob", slot, this::runWithLease);
+
+        } catch (Exception e) {
+            log.error("배치 메타데이터 정리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void runWithLease(SchedulerLease lease) throws Exception {
+        log.info("========== 배치 메타데이터 정리 시작: {} ==========", LocalDateTime.now());
+
+        JobParameters jobParameters = new JobParametersBuilder(lease.toJobParameters())
+                .addString("currentTime", LocalDateTime.now().toString())
+                .addLocalDateTime("executionTime", LocalDateTime.now())
+                .toJobParameters();
+
+        jobLauncher.run(batchMetadataCleanupJob, jobParameters);
+
+        log.info("========== 배치 메타데이터 정리 완료: {} ==========", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.batch.scheduler;
+
+import com.example.demo.batch.lease.SchedulerLease;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막 Job 실행이 실패(또는 서버 다운으로 STARTED 상태에 멈춤)했다면 같은 JobParameters로 재시작한다.
+ * 재시작 시 완료된 Step/파티션은 건너뛰고, 남은 파티션은 저장된 Reader 위치부터 이어서 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobRestartSupport {
+
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+
+    // 이 시간 이상 어느 Step(파티션)도 청크를 커밋하지 않은 STARTED 실행은 비정상 종료된 것으로 간주
+    @Value("${auction.batch.stale-execution-minutes:10}")
+    private long staleExecutionMinutes;
+
+    public void restartIfFailed(Job job, JobLauncher jobLauncher) throws Exception {
+        restartIfFailed(job, jobLauncher, new JobParameters());
+    }
+
+    /**
+     * @param overrides 재시작 실행에서 바꿔 넘길 비식별 파라미터 (예: 새로 획득한 lease의 fencingToken)
+     */
+    public void restartIfFailed(Job job, JobLauncher jobLauncher, JobParameters overrides) throws Exception {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance == null) {
+            return;
+        }
+
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) {
+            return;
+        }
+
+        if (isCrashed(lastExecution)) {
+            markFailed(lastExecution);
+        }
+
+        if (lastExecution.getStatus() != BatchStatus.FAILED) {
+            return;
+        }
+
+        log.warn("실패한 배치를 이어서 재시작합니다: job={}, executionId={}",
+                job.getName(), lastExecution.getId());
+        JobParameters restartParameters = new JobParametersBuilder(lastExecution.getJobParameters())
+                .addJobParameters(overrides)
+                .toJobParameters();
+        jobLauncher.run(job, restartParameters);
+    }
+
+    /**
+     * JobExecution.lastUpdated는 시작/종료 때만 바뀌므로, 청크 커밋마다 갱신되는 StepExecution.lastUpdated 중 가장 최근 값으로 판단한다.
+     * lease 토큰 없이 실행된 경우(API 수동 실행 등)는 늦게 깨어난 원래 실행의 쓰기를 막을 수 없으므로 정리하지 않는다.
+     */
+    private boolean isCrashed(JobExecution execution) {
+        if (!execution.isRunning()) {
+            return false;
+        }
+        if (execution.getJobParameters().getParameter(SchedulerLease.FENCING_TOKEN_PARAMETER) == null) {
+            log.debug("lease 토큰 없이 실행 중인 배치는 정리하지 않습니다: executionId={}", execution.getId());
+            return false;
+        }
+        LocalDateTime lastProgress = execution.getLastUpdated() != null
+                ? execution.getLastUpdated()
+                : execution.getCreateTime();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            LocalDateTime stepUpdated = stepExecution.getLastUpdated();
+            if (stepUpdated != null && stepUpdated.isAfter(lastProgress)) {
+                lastProgress = stepUpdated;
+            }
+        }
+        return Duration.between(lastProgress, LocalDateTime.now()).toMinutes() >= staleExecutionMinutes;
+    }
+
+    private void markFailed(JobExecution execution) {
+        log.warn("비정상 종료된 배치 실행을 FAILED로 정리합니다: executionId={}", execution.getId());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED);
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+    }
+}
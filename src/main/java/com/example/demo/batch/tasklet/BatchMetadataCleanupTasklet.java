@@ -0,0 +1,72 @@
+package com.example.demo.batch.tasklet;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * 보관 기간이 지난 Spring Batch 메타데이터(BATCH_JOB_*, BATCH_STEP_*)를 조금씩 삭제하는 Tasklet.
+ * <p>
+ * execute 호출 한 번에 종료된 JobExecution을 오래된 순으로 batchSize 개씩 골라, FK 순서대로
+ * StepExecution 컨텍스트 → StepExecution → JobExecution 컨텍스트/파라미터 → JobExecution을 지우고,
+ * 실행이 하나도 남지 않은 JobInstance도 함께 지운다. 호출마다 트랜잭션이 나뉘므로 큰 삭제로
+ * 메타데이터 테이블을 오래 잠그지 않는다.
+ */
+@Slf4j
+public class BatchMetadataCleanupTasklet implements Tasklet {
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT JOB_EXECUTION_ID, JOB_INSTANCE_ID FROM BATCH_JOB_EXECUTION " +
+                    "WHERE CREATE_TIME < :cutoff AND END_TIME IS NOT NULL " +
+                    "ORDER BY JOB_EXECUTION_ID LIMIT :limit";
+
+    private static final List<String> DELETE_BY_EXECUTION_SQLS = List.of(
+            "DELETE FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN " +
+                    "(SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids))",
+            "DELETE FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)",
+            "DELETE FROM BATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN (:ids)",
+            "DELETE FROM BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN (:ids)",
+            "DELETE FROM BATCH_JOB_EXECUTION WHERE JOB_EXECUTION_ID IN (:ids)");
+
+    private static final String DELETE_ORPHAN_INSTANCES_SQL =
+            "DELETE FROM BATCH_JOB_INSTANCE WHERE JOB_INSTANCE_ID IN (:instanceIds) " +
+                    "AND NOT EXISTS (SELECT 1 FROM BATCH_JOB_EXECUTION e WHERE e.JOB_INSTANCE_ID = BATCH_JOB_INSTANCE.JOB_INSTANCE_ID)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LocalDateTime cutoff;
+    private final int batchSize;
+
+    public BatchMetadataCleanupTasklet(NamedParameterJdbcTemplate jdbcTemplate, LocalDateTime cutoff, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cutoff = cutoff;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<Map<String, Object>> expired = jdbcTemplate.queryForList(
+                SELECT_EXPIRED_SQL, Map.of("cutoff", cutoff, "limit", batchSize));
+        if (expired.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Long> executionIds = expired.stream().map(row -> ((Number) row.get("JOB_EXECUTION_ID")).longValue()).toList();
+        List<Long> instanceIds = expired.stream().map(row -> ((Number) row.get("JOB_INSTANCE_ID")).longValue()).distinct().toList();
+
+        for (String sql : DELETE_BY_EXECUTION_SQLS) {
+            jdbcTemplate.update(sql, Map.of("ids", executionIds));
+        }
+        int instances = jdbcTemplate.update(DELETE_ORPHAN_INSTANCES_SQL, Map.of("instanceIds", instanceIds));
+
+        contribution.incrementWriteCount(executionIds.size());
+        log.info("배치 메타데이터 정리: JobExecution {}건, JobInstance {}건 삭제 ({} 이전)",
+                executionIds.size(), instances, cutoff);
+        return expired.size() < batchSize ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
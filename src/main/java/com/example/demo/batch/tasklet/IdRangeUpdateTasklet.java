@@ -0,0 +1,107 @@
+package com.example.demo.batch.tasklet;
+
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * id 구간(window) 단위로 set-based UPDATE를 실행하는 Tasklet.
+ * <p>
+ * 대상 id를 JVM으로 읽어오지 않고, 처음 한 번 대상의 MIN/MAX id만 조회한 뒤
+ * {@code WHERE id BETWEEN ? AND ? AND ...} 형태의 UPDATE를 구간마다 한 번씩 실행한다.
+ * execute 호출 한 번이 구간 하나이자 트랜잭션 하나이며, 다음 구간의 시작 id를 StepExecutionContext에
+ * 함께 커밋하므로 실패 후 재시작하면 남은 구간부터 이어서 처리한다.
+ * <p>
+ * boundsSql은 {@code SELECT MIN(id), MAX(id) ...} 형태로 parameters를 순서대로 바인딩하고,
+ * updateSql은 첫 두 자리에 구간 시작/끝 id, 그 뒤에 parameters를 바인딩한다.
+ * 여러 문장을 넘기면 같은 인자로 같은 트랜잭션 안에서 순서대로 실행하고 (예: outbox INSERT ... SELECT 후 UPDATE),
+ * 처리 건수는 마지막 문장 기준으로 기록한다.
+ */
+@Slf4j
+public class IdRangeUpdateTasklet implements Tasklet {
+
+    public static final String UPDATED_COUNT_KEY = "rangeUpdate.updatedCount";
+
+    private static final String NEXT_ID_KEY = "rangeUpdate.nextId";
+    private static final String MAX_ID_KEY = "rangeUpdate.maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String boundsSql;
+    private final List<String> updateSqls;
+    private final long windowSize;
+    private final Object[] parameters;
+
+    public IdRangeUpdateTasklet(JdbcTemplate jdbcTemplate, String boundsSql, String updateSql,
+                                long windowSize, Object... parameters) {
+        this(jdbcTemplate, boundsSql, List.of(updateSql), windowSize, parameters);
+    }
+
+    public IdRangeUpdateTasklet(JdbcTemplate jdbcTemplate, String boundsSql, List<String> updateSqls,
+                                long windowSize, Object... parameters) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boundsSql = boundsSql;
+        this.updateSqls = List.copyOf(updateSqls);
+        this.windowSize = windowSize;
+        this.parameters = parameters;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        if (!executionContext.containsKey(NEXT_ID_KEY)) {
+            initializeBounds(executionContext);
+        }
+
+        long nextId = executionContext.getLong(NEXT_ID_KEY);
+        long maxId = executionContext.getLong(MAX_ID_KEY);
+        if (nextId > maxId) {
+            return RepeatStatus.FINISHED;
+        }
+
+        long windowEnd = Math.min(nextId + windowSize - 1, maxId);
+        Object[] arguments = windowArguments(nextId, windowEnd);
+        int updated = 0;
+        for (String updateSql : updateSqls) {
+            updated = jdbcTemplate.update(updateSql, arguments);
+        }
+
+        contribution.incrementWriteCount(updated);
+        executionContext.putLong(NEXT_ID_KEY, windowEnd + 1);
+        executionContext.putLong(UPDATED_COUNT_KEY, executionContext.getLong(UPDATED_COUNT_KEY, 0L) + updated);
+
+        log.debug("구간 업데이트: id {} ~ {}, {}건", nextId, windowEnd, updated);
+        return windowEnd >= maxId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    private void initializeBounds(ExecutionContext executionContext) {
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(boundsSql, parameters);
+        Number minId = (Number) bounds.get("min_id");
+        Number maxId = (Number) bounds.get("max_id");
+
+        if (minId == null || maxId == null) {
+            log.info("구간 업데이트 대상 없음");
+            executionContext.putLong(NEXT_ID_KEY, 1L);
+            executionContext.putLong(MAX_ID_KEY, 0L);
+            return;
+        }
+
+        log.info("구간 업데이트 시작: id {} ~ {}, 구간 크기={}", minId, maxId, windowSize);
+        executionContext.putLong(NEXT_ID_KEY, minId.longValue());
+        executionContext.putLong(MAX_ID_KEY, maxId.longValue());
+    }
+
+    private Object[] windowArguments(long fromId, long toId) {
+        Object[] arguments = new Object[parameters.length + 2];
+        arguments[0] = fromId;
+        arguments[1] = toId;
+        System.arraycopy(parameters, 0, arguments, 2, parameters.length);
+        return arguments;
+    }
+}
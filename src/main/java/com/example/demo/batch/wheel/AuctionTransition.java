@@ -0,0 +1,20 @@
+package com.example.demo.batch.wheel;
+
+/**
+ * 타이밍 휠에 등록되는 경매 상태 전환 예약
+ */
+public record AuctionTransition(Type type, long auctionId) {
+
+    public enum Type {
+        START,  // PENDING → ACTIVE
+        END     // ACTIVE → ENDED
+    }
+
+    public static AuctionTransition start(long auctionId) {
+        return new AuctionTransition(Type.START, auctionId);
+    }
+
+    public static AuctionTransition end(long auctionId) {
+        return new AuctionTransition(Type.END, auctionId);
+    }
+}
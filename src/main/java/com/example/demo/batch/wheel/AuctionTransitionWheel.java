@@ -0,0 +1,170 @@
+package com.example.demo.batch.wheel;
+
+import com.example.demo.config.SchedulingConfig;
+import com.example.demo.dto.AuctionScheduleView;
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.outbox.AuctionOutboxEvent;
+import com.example.demo.repository.AuctionRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 초 단위 경매 시작/종료 엔진.
+ * <p>
+ * 가까운 시일(horizon) 안에 시작/종료되는 경매를 타이밍 휠에 올려 두고, 매초 그 초에 도래한 전환만
+ * 작은 묶음(micro-batch)의 조건부 UPDATE로 처리한다. 분 단위 배치(auctionEndJob/auctionActivationJob)는
+ * 서버 재시작이나 휠 누락에 대비한 안전망으로만 남는다.
+ */
+@Slf4j
+@Component
+public class AuctionTransitionWheel {
+
+    private static final long TICK_MILLIS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private static final String START_SQL =
+            "UPDATE auctions SET status = 'ACTIVE' WHERE id IN (:ids) AND status = 'PENDING' AND start_time <= :now";
+    // 종료 이벤트는 상태 변경과 같은 트랜잭션에서 outbox에 남긴다 (아직 ACTIVE인 경매만)
+    private static final String END_OUTBOX_SQL =
+            "INSERT INTO auction_outbox (event_type, auction_id, created_at) " +
+                    "SELECT '" + AuctionOutboxEvent.AUCTION_ENDED + "', id, CURRENT_TIMESTAMP(3) FROM auctions " +
+                    "WHERE id IN (:ids) AND status = 'ACTIVE' AND end_time <= :now";
+    private static final String END_SQL =
+            "UPDATE auctions SET status = 'ENDED' WHERE id IN (:ids) AND status = 'ACTIVE' AND end_time <= :now";
+
+    private final AuctionRepository auctionRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimingWheel<AuctionTransition> wheel;
+    private final Set<AuctionTransition> scheduled = ConcurrentHashMap.newKeySet();
+    private final ZoneId zoneId = ZoneId.systemDefault();
+
+    @Value("${auction.wheel.enabled:true}")
+    private boolean enabled;
+
+    // 휠에 미리 올려 둘 범위 (지금부터 N분 이내 시작/종료)
+    @Value("${auction.wheel.horizon-minutes:5}")
+    private long horizonMinutes;
+
+    // UPDATE 한 번에 담을 최대 경매 수
+    @Value("${auction.wheel.micro-batch-size:500}")
+    private int microBatchSize;
+
+    // 전환 UPDATE는 스케줄러 풀로 - 매초 경계의 전환이 웹 요청과 커넥션을 다투지 않게
+    public AuctionTransitionWheel(AuctionRepository auctionRepository,
+                                  @Qualifier("schedulerDataSource") DataSource schedulerDataSource) {
+        this.auctionRepository = auctionRepository;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(schedulerDataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(schedulerDataSource));
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    /**
+     * 새로 생성된 경매를 예약한다. horizon 밖의 경매는 이후 preload에서 올라온다.
+     */
+    public void register(Auction auction) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime limit = LocalDateTime.now().plusMinutes(horizonMinutes);
+        if (auction.getStatus() == AuctionStatus.PENDING) {
+            schedule(AuctionTransition.start(auction.getId()), auction.getStartTime(), limit);
+        }
+        schedule(AuctionTransition.end(auction.getId()), auction.getEndTime(), limit);
+    }
+
+    /**
+     * horizon 안에 시작/종료되는 경매를 Repository에서 읽어 휠에 올린다. (이미 예약된 경매는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${auction.wheel.preload-interval-ms:60000}")
+    public void preload() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime limit = now.plusMinutes(horizonMinutes);
+
+        List<AuctionScheduleView> starting = auctionRepository
+                .findScheduleByStatusAndStartTimeBetween(AuctionStatus.PENDING, now, limit);
+        starting.forEach(view -> schedule(AuctionTransition.start(view.getId()), view.getStartTime(), limit));
+
+        List<AuctionScheduleView> ending = auctionRepository.findScheduleByStatusInAndEndTimeBetween(
+                List.of(AuctionStatus.PENDING, AuctionStatus.ACTIVE), now, limit);
+        ending.forEach(view -> schedule(AuctionTransition.end(view.getId()), view.getEndTime(), limit));
+
+        log.info("타이밍 휠 preload: 시작 예정={}건, 종료 예정={}건, 휠 대기={}건",
+                starting.size(), ending.size(), wheel.size());
+    }
+
+    /**
+     * 매초 도래한 전환을 micro-batch로 처리한다. 시작을 먼저 처리해 같은 초에 시작/종료가 겹쳐도 순서를 지킨다.
+     */
+    @Scheduled(fixedRate = TICK_MILLIS, scheduler = SchedulingConfig.WHEEL_SCHEDULER)
+    public void tick() {
+        if (!enabled) {
+            return;
+        }
+        List<AuctionTransition> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) {
+            return;
+        }
+        due.forEach(scheduled::remove);
+
+        List<Long> toStart = new ArrayList<>();
+        List<Long> toEnd = new ArrayList<>();
+        for (AuctionTransition transition : due) {
+            (transition.type() == AuctionTransition.Type.START ? toStart : toEnd).add(transition.auctionId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int started = apply(List.of(START_SQL), toStart, now);
+        int ended = apply(List.of(END_OUTBOX_SQL, END_SQL), toEnd, now);
+        log.info("타이밍 휠 전환 처리: 시작={}/{}건, 종료={}/{}건", started, toStart.size(), ended, toEnd.size());
+    }
+
+    private void schedule(AuctionTransition transition, LocalDateTime at, LocalDateTime limit) {
+        if (at.isAfter(limit) || !scheduled.add(transition)) {
+            return;
+        }
+        wheel.schedule(transition, ceilToTick(at.atZone(zoneId).toInstant().toEpochMilli()));
+    }
+
+    // 마감 시각이 속한 초가 끝난 뒤에 꺼내야 조건부 UPDATE의 시간 조건(<= now)을 만족한다
+    private long ceilToTick(long epochMillis) {
+        return ((epochMillis + TICK_MILLIS - 1) / TICK_MILLIS) * TICK_MILLIS;
+    }
+
+    // micro-batch 하나 = 트랜잭션 하나, 여러 문장이면 순서대로 실행하고 처리 건수는 마지막 문장 기준
+    private int apply(List<String> sqls, List<Long> ids, LocalDateTime now) {
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += microBatchSize) {
+            Map<String, Object> parameters = Map.of(
+                    "ids", ids.subList(from, Math.min(from + microBatchSize, ids.size())),
+                    "now", now);
+            Integer count = transactionTemplate.execute(status -> {
+                int last = 0;
+                for (String sql : sqls) {
+                    last = jdbcTemplate.update(sql, parameters);
+                }
+                return last;
+            });
+            updated += count == null ? 0 : count;
+        }
+        return updated;
+    }
+}
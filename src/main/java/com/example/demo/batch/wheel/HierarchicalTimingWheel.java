@@ -0,0 +1,128 @@
+package com.example.demo.batch.wheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠.
+ * <p>
+ * 가장 아래 휠은 tickMillis 간격의 버킷 wheelSize 개로 (tickMillis * wheelSize) 범위를 담당하고,
+ * 그보다 먼 항목은 한 칸이 아래 휠 한 바퀴인 상위 휠(overflow)에 넣어 둔다.
+ * 시계가 상위 휠의 칸 경계를 지날 때 해당 버킷을 비워 아래 휠로 다시 내려보내므로,
+ * 등록/만료 비용은 항목 수와 무관하게 O(1)이고 만료 정밀도는 tickMillis 이다.
+ * <p>
+ * 마감 시각이 속한 tick이 시작되는 순간 만료로 본다. 정확히 마감 이후에 꺼내야 한다면 호출자가 마감 시각을 tick 단위로 올림해 등록한다.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final Level<T> root;
+    private final List<T> overdue = new ArrayList<>();
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.root = new Level<>(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 항목을 등록한다. 이미 지난 마감 시각이면 다음 advance 호출에서 바로 반환된다.
+     */
+    public synchronized void schedule(T item, long deadlineMillis) {
+        if (!root.add(new Entry<>(item, deadlineMillis))) {
+            overdue.add(item);
+        }
+        size++;
+    }
+
+    /**
+     * 시계를 nowMillis 까지 tick 단위로 진행하고, 그 사이 만료된 항목을 마감 순서대로 반환한다.
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>(overdue);
+        overdue.clear();
+
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            tick(root.currentTime + root.tickMillis, due);
+        }
+
+        size -= due.size();
+        return due;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void tick(long time, List<T> due) {
+        List<Entry<T>> flushed = new ArrayList<>();
+
+        // 상위 휠의 tick은 아래 휠 tick의 배수이므로, 경계에 맞지 않는 휠을 만나면 그 위로는 볼 필요가 없다
+        for (Level<T> level = root; level != null && time % level.tickMillis == 0; level = level.overflow) {
+            level.currentTime = time;
+            level.drain(time, flushed);
+        }
+
+        for (Entry<T> entry : flushed) {
+            if (!root.add(entry)) {
+                due.add(entry.item());
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long deadlineMillis) {}
+
+    private static final class Level<T> {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Entry<T>>[] buckets;
+        private long currentTime;
+        private Level<T> overflow;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new List[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayList<>();
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        /**
+         * @return 이 휠(또는 상위 휠)에 넣었으면 true, 이미 현재 tick 안에 들어와 만료된 항목이면 false
+         */
+        private boolean add(Entry<T> entry) {
+            long deadline = entry.deadlineMillis();
+            if (deadline < currentTime + tickMillis) {
+                return false;
+            }
+            if (deadline < currentTime + interval) {
+                buckets[bucketIndex(deadline)].add(entry);
+                return true;
+            }
+            return overflow().add(entry);
+        }
+
+        private void drain(long time, List<Entry<T>> sink) {
+            List<Entry<T>> bucket = buckets[bucketIndex(time)];
+            if (!bucket.isEmpty()) {
+                sink.addAll(bucket);
+                bucket.clear();
+            }
+        }
+
+        private int bucketIndex(long millis) {
+            return (int) ((millis / tickMillis) % wheelSize);
+        }
+
+        private Level<T> overflow() {
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime);
+            }
+            return overflow;
+        }
+    }
+}
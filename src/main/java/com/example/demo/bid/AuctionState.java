@@ -0,0 +1,35 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰 사전 검증에 쓰는 경매 상태 스냅샷 (AuctionStateCache 항목)
+ */
+public record AuctionState(Long auctionId,
+                           AuctionStatus status,
+                           LocalDateTime endTime,
+                           Long sellerId,
+                           BigDecimal currentPrice,
+                           BigDecimal minBidIncrement) {
+
+    public static AuctionState of(Auction auction) {
+        return new AuctionState(auction.getId(), auction.getStatus(), auction.getEndTime(),
+                auction.getSeller().getId(), auction.getCurrentPrice(), auction.getMinBidIncrement());
+    }
+
+    /**
+     * 순서가 뒤바뀐 스냅샷이 들어와도 되돌아가지 않도록, 한 방향으로만 변하는 값(상태, 현재가)은 더 나중 값을 유지한다
+     */
+    AuctionState merge(AuctionState incoming) {
+        AuctionStatus mergedStatus = incoming.status.ordinal() > status.ordinal() ? incoming.status : status;
+        BigDecimal mergedPrice = incoming.currentPrice.max(currentPrice);
+        return new AuctionState(auctionId, mergedStatus, endTime, sellerId, mergedPrice, minBidIncrement);
+    }
+
+    AuctionState withPrice(BigDecimal price) {
+        return new AuctionState(auctionId, status, endTime, sellerId, currentPrice.max(price), minBidIncrement);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 노드별 경매 상태 캐시 - 이길 수 없는 입찰을 DB에 가기 전에 거절한다.
+ * <p>
+ * 입찰 처리 경로가 커밋된 상태를 write-through로 넣고, 최대 크기를 넘으면 가장 오래 조회되지 않은 경매부터 버린다.
+ * 모든 입찰이 거치므로 경매 ID로 나눈 구간(stripe)마다 잠금과 LRU를 따로 두어, 서로 다른 경매의 조회가 잠금을 다투지 않게 한다.
+ * 최대 크기는 구간별로 나눠 지키므로 제거 순서는 전체 기준으로는 근사 LRU다.
+ * 다른 노드의 입찰은 반영되지 않으므로 캐시 값은 실제보다 뒤처질 수 있다. 그래서 뒤처진 값으로도 결론이 바뀌지 않는
+ * 규칙으로만 거절하고({@link BidValidator#precheck}), 캐시에 없거나 통과한 입찰은 그대로 DB 경로에서 최종 검증한다.
+ */
+@Component
+public class AuctionStateCache {
+
+    private static final int MAX_STRIPES = 16;
+
+    private final BidValidator bidValidator;
+    private final MeterRegistry meterRegistry;
+    private final int maxSize;
+    private final List<Stripe> stripes;
+
+    public AuctionStateCache(BidValidator bidValidator,
+                             MeterRegistry meterRegistry,
+                             @Value("${auction.bid.state-cache.max-size:10000}") int maxSize) {
+        this.bidValidator = bidValidator;
+        this.meterRegistry = meterRegistry;
+        this.maxSize = maxSize;
+        // 구간별 최대 크기의 합이 정확히 maxSize가 되도록 나머지를 앞 구간에 하나씩 더 준다
+        int stripeCount = Math.max(1, Math.min(MAX_STRIPES, maxSize));
+        List<Stripe> created = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            created.add(new Stripe(maxSize / stripeCount + (i < maxSize % stripeCount ? 1 : 0)));
+        }
+        this.stripes = List.copyOf(created);
+        Gauge.builder("auction.bid.state-cache.size", this, AuctionStateCache::size)
+                .description("입찰 사전 검증용으로 캐시된 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상태로 확실히 실패할 입찰을 거절한다. 캐시에 없으면 아무것도 하지 않는다.
+     */
+    public void precheck(BidCreateRequest request, LocalDateTime now) {
+        Optional<AuctionState> state = get(request.getAuctionId());
+        if (state.isEmpty()) {
+            return;
+        }
+        try {
+            bidValidator.precheck(state.get(), request.getBidderId(), request.getBidAmount(), now);
+        } catch (RuntimeException e) {
+            Counter.builder("auction.bid.precheck.rejected")
+                    .description("DB에 가기 전에 캐시된 경매 상태로 거절한 입찰 수")
+                    .tag("reason", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    public Optional<AuctionState> get(Long auctionId) {
+        Stripe stripe = stripeOf(auctionId);
+        stripe.lock.lock();
+        try {
+            return Optional.ofNullable(stripe.states.get(auctionId));
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 커밋된 상태를 반영한다 (이미 있으면 한 방향으로만 합친다)
+     */
+    public void update(AuctionState state) {
+        if (maxSize <= 0) {
+            return;
+        }
+        Stripe stripe = stripeOf(state.auctionId());
+        stripe.lock.lock();
+        try {
+            stripe.states.merge(state.auctionId(), state, AuctionState::merge);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 반영한다 - 롤백된 현재가로 입찰을 거절하지 않도록
+     */
+    public void updateAfterCommit(AuctionState state) {
+        afterCommit(() -> update(state));
+    }
+
+    /**
+     * 이미 캐시된 경매의 현재가만 올린다 (커밋 후)
+     */
+    public void advancePriceAfterCommit(Long auctionId, BigDecimal price) {
+        afterCommit(() -> {
+            Stripe stripe = stripeOf(auctionId);
+            stripe.lock.lock();
+            try {
+                stripe.states.computeIfPresent(auctionId, (id, state) -> state.withPrice(price));
+            } finally {
+                stripe.lock.unlock();
+            }
+        });
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.states.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(Long auctionId) {
+        return stripes.get(Math.floorMod(Long.hashCode(auctionId), stripes.size()));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, AuctionState> states;
+
+        private Stripe(int maxSize) {
+            // 조회 순서(access order)로 유지해 가장 오래 쓰이지 않은 경매부터 제거
+            this.states = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, AuctionState> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.Bid;
+import com.example.demo.entity.User;
+import com.example.demo.exception.AuctionNotFoundException;
+import com.example.demo.exception.UserNotFoundException;
+import com.example.demo.repository.AuctionRepository;
+import com.example.demo.repository.BidRepository;
+import com.example.demo.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 경매의 입찰 묶음을 도착 순서대로 트랜잭션 하나에서 처리한다.
+ * <p>
+ * 경매 행은 묶음마다 한 번만 잠그고(SELECT ... FOR UPDATE), 현재가/입찰 수/최고가 입찰 포인터 갱신도
+ * 묶음 끝에서 한 번만 반영한다. 입찰은 INSERT만 하고 이전 최고가 입찰 행은 건드리지 않는다.
+ * 검증에 실패한 입찰은 다른 입찰을 막지 않고 결과에 예외로 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidBatchProcessor {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final UserRepository userRepository;
+    private final BidValidator bidValidator;
+    private final AuctionStateCache auctionStateCache;
+
+    /**
+     * @return requests와 같은 순서의 입찰별 결과
+     */
+    @Transactional
+    public List<BidOutcome> process(Long auctionId, List<BidCreateRequest> requests) {
+        // 다른 노드에서 같은 경매의 입찰이 동시에 처리되지 않도록 경매 행을 잠근다
+        Optional<Auction> found = auctionRepository.findByIdForUpdate(auctionId);
+        if (found.isEmpty()) {
+            return requests.stream()
+                    .map(request -> BidOutcome.rejected(new AuctionNotFoundException(auctionId)))
+                    .toList();
+        }
+        Auction auction = found.get();
+
+        Map<Long, User> bidders = userRepository.findAllById(
+                        requests.stream().map(BidCreateRequest::getBidderId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Long winningBidderId = auction.getLeadingBidderId();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BidOutcome> outcomes = new ArrayList<>(requests.size());
+        List<Bid> accepted = new ArrayList<>();
+        for (BidCreateRequest request : requests) {
+            User bidder = bidders.get(request.getBidderId());
+            if (bidder == null) {
+                outcomes.add(BidOutcome.rejected(new UserNotFoundException(request.getBidderId())));
+                continue;
+            }
+
+            try {
+                bidValidator.validate(auction, bidder, request.getBidAmount(), winningBidderId, now);
+            } catch (RuntimeException e) {
+                outcomes.add(BidOutcome.rejected(e));
+                continue;
+            }
+
+            Bid bid = Bid.builder()
+                    .auction(auction)
+                    .bidder(bidder)
+                    .bidAmount(request.getBidAmount())
+                    .build();
+            accepted.add(bid);
+            outcomes.add(BidOutcome.accepted(bid));
+
+            // 다음 입찰은 이 입찰이 반영된 상태로 검증
+            auction.setCurrentPrice(request.getBidAmount());
+            auction.setBidCount(auction.getBidCount() + 1);
+            winningBidderId = bidder.getId();
+        }
+
+        if (!accepted.isEmpty()) {
+            bidRepository.saveAll(accepted);
+            Bid leading = accepted.getLast();
+            auction.setLeadingBidId(leading.getId());
+            auction.setLeadingBidderId(leading.getBidder().getId());
+        }
+
+        auctionStateCache.updateAfterCommit(AuctionState.of(auction));
+        log.debug("입찰 묶음 처리: 경매ID={}, 요청={}건, 성공={}건", auctionId, requests.size(), accepted.size());
+        return outcomes;
+    }
+}
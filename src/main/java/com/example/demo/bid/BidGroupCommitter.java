@@ -0,0 +1,186 @@
+package com.example.demo.bid;
+
+import com.example.demo.config.replica.ConsistencyTokenIssuer;
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.exception.BidQueueFullException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 group commit - 경매와 관계없이 들어온 입찰을 최대 max-wait-ms 또는 max-batch-size건까지 모아
+ * {@link GroupCommitBidWriter}로 트랜잭션 하나(커밋 한 번)에 쓴다.
+ * <p>
+ * 초당 입찰 수가 커밋(fsync) 횟수에 묶이지 않고 흐름 크기에 비례해 늘어난다. 대신 입찰 응답은 최대 max-wait-ms만큼 늦어진다.
+ * 커밋 뒤에는 흐름마다 가상 스레드 하나에서 일관성 토큰(GTID 집합)을 한 번만 조회해 그 흐름의 입찰 모두에 붙여 완료하므로,
+ * 토큰 조회와 응답 작성이 다음 흐름을 막지 않고 입찰 수만큼 master를 조회하지도 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.bid.processing-mode", havingValue = "GROUP_COMMIT")
+public class BidGroupCommitter {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final GroupCommitBidWriter groupCommitBidWriter;
+    private final ConsistencyTokenIssuer consistencyTokenIssuer;
+    private final BlockingQueue<PendingBid> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long shutdownTimeoutMs;
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public BidGroupCommitter(GroupCommitBidWriter groupCommitBidWriter,
+                             ConsistencyTokenIssuer consistencyTokenIssuer,
+                             MeterRegistry meterRegistry,
+                             @Value("${auction.bid.group-commit.max-batch-size:500}") int maxBatchSize,
+                             @Value("${auction.bid.group-commit.max-wait-ms:5}") long maxWaitMs,
+                             @Value("${auction.bid.group-commit.queue-capacity:20000}") int queueCapacity,
+                             @Value("${auction.bid.group-commit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.groupCommitBidWriter = groupCommitBidWriter;
+        this.consistencyTokenIssuer = consistencyTokenIssuer;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.flushSize = DistributionSummary.builder("auction.bid.group-commit.flush.size")
+                .description("커밋 한 번에 쓴 입찰 요청 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("auction.bid.group-commit.flush.latency")
+                .description("흐름 하나의 트랜잭션 시간 (잠금 + 검증 + 배치 쓰기 + 커밋)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auction.bid.group-commit.queue", queue, BlockingQueue::size)
+                .description("다음 흐름을 기다리는 입찰 수")
+                .register(meterRegistry);
+        this.flusher = Thread.ofPlatform().name("bid-group-commit").daemon(true).start(this::run);
+        log.info("입찰 group commit 시작: 최대 {}건 / {}ms", maxBatchSize, maxWaitMs);
+    }
+
+    /**
+     * 입찰을 다음 흐름에 넣는다. 결과는 흐름이 커밋된 뒤 완료된다.
+     *
+     * @throws BidQueueFullException 대기열이 가득 찬 경우
+     */
+    public CompletableFuture<PlacedBid> submit(BidCreateRequest request) {
+        PendingBid pending = new PendingBid(request, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            throw new BidQueueFullException();
+        }
+        return pending.result();
+    }
+
+    /**
+     * 새 입찰을 막고, 이미 받은 입찰은 커밋한 뒤 종료한다
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(shutdownTimeoutMs);
+        if (flusher.isAlive()) {
+            flusher.interrupt();
+            log.warn("입찰 group commit 종료 시간 초과, 남은 입찰 {}건", queue.size());
+        }
+        completionExecutor.shutdown();
+    }
+
+    private void run() {
+        List<PendingBid> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingBid first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch, System.nanoTime() + maxWaitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    // 첫 입찰 이후 max-wait 안에 들어온 입찰을 max-batch-size까지 모은다
+    private void fill(List<PendingBid> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingBid next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingBid> batch) {
+        flushSize.record(batch.size());
+        List<PendingBid> pendings = List.copyOf(batch);
+        List<BidOutcome> outcomes;
+        try {
+            outcomes = flushLatency.record(
+                    () -> groupCommitBidWriter.write(pendings.stream().map(PendingBid::request).toList()));
+        } catch (Throwable e) {
+            // Error도 여기서 흐름 실패로 끝내야 flusher 스레드가 살아남아 다음 흐름을 처리한다
+            log.error("입찰 group commit 실패: {}건", pendings.size(), e);
+            RuntimeException rejection = e instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("입찰 group commit 실패", e);
+            runCompletion(() -> pendings.forEach(pending -> pending.result().completeExceptionally(rejection)));
+            return;
+        }
+        runCompletion(() -> complete(pendings, outcomes));
+    }
+
+    private void runCompletion(Runnable completion) {
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            // 종료 시간 초과 후 중단된 flusher - 응답을 잃지 않도록 flusher 스레드에서 바로 완료
+            completion.run();
+        }
+    }
+
+    private void complete(List<PendingBid> pendings, List<BidOutcome> outcomes) {
+        // 커밋이 끝난 뒤 조회하므로 이 흐름에서 쓴 모든 입찰의 GTID가 포함된다
+        boolean anyAccepted = outcomes.stream().anyMatch(outcome -> outcome.rejection() == null);
+        String consistencyToken = anyAccepted ? consistencyTokenIssuer.issue() : null;
+        for (int i = 0; i < pendings.size(); i++) {
+            BidOutcome outcome = outcomes.get(i);
+            if (outcome.rejection() != null) {
+                pendings.get(i).result().completeExceptionally(outcome.rejection());
+            } else {
+                pendings.get(i).result().complete(new PlacedBid(outcome.bid(), consistencyToken));
+            }
+        }
+    }
+
+    private record PendingBid(BidCreateRequest request, CompletableFuture<PlacedBid> result) {
+    }
+}
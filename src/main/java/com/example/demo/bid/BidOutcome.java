@@ -0,0 +1,24 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.Bid;
+
+/**
+ * 묶음 처리 안에서 입찰 하나의 결과 - 저장된 입찰 또는 검증 실패 예외
+ */
+public record BidOutcome(Bid bid, RuntimeException rejection) {
+
+    public static BidOutcome accepted(Bid bid) {
+        return new BidOutcome(bid, null);
+    }
+
+    public static BidOutcome rejected(RuntimeException rejection) {
+        return new BidOutcome(null, rejection);
+    }
+
+    public Bid getOrThrow() {
+        if (rejection != null) {
+            throw rejection;
+        }
+        return bid;
+    }
+}
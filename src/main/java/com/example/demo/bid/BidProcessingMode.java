@@ -0,0 +1,11 @@
+package com.example.demo.bid;
+
+/**
+ * 입찰 처리 방식 (auction.bid.processing-mode)
+ */
+public enum BidProcessingMode {
+    DIRECT,     // 요청 스레드에서 입찰 하나 = 트랜잭션 하나 (경매 행 잠금 대기)
+    SEQUENCED,  // 경매별 단일 lane에서 대기 중인 입찰을 모아 트랜잭션 하나로 처리
+    CONDITIONAL, // 요청 스레드에서 조건부 UPDATE 한 문장으로 검증 + 현재가 갱신 (경매 행 잠금 시간 최소화)
+    GROUP_COMMIT // 경매와 관계없이 N ms 또는 M건까지 모아 JDBC 배치 + 커밋 한 번으로 처리
+}
@@ -0,0 +1,189 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Bid;
+import com.example.demo.exception.BidQueueFullException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매별 단일 writer 입찰 처리기.
+ * <p>
+ * 경매 ID로 고정된 lane(단일 스레드 + 큐)을 골라 입찰을 넣고, lane은 쌓인 입찰을 한 번에 꺼내
+ * 경매별로 묶어 {@link BidBatchProcessor}로 트랜잭션 하나씩 처리한다.
+ * 같은 경매의 입찰은 항상 같은 lane에서 도착 순서대로 처리되므로 노드 안에서는 경매 행 잠금을 기다리지 않고,
+ * 마감 직전처럼 입찰이 몰리면 묶음이 커져 처리량이 lane 속도에 맞춰진다.
+ * 여러 노드가 같은 경매를 받는 경우는 {@link BidBatchProcessor}의 행 잠금으로 직렬화된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.bid.processing-mode", havingValue = "SEQUENCED", matchIfMissing = true)
+public class BidSequencer {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final BidBatchProcessor bidBatchProcessor;
+    private final DistributionSummary batchSize;
+    private final int maxBatchSize;
+    private final long shutdownTimeoutMs;
+    private final List<Lane> lanes;
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running = true;
+
+    public BidSequencer(BidBatchProcessor bidBatchProcessor,
+                        MeterRegistry meterRegistry,
+                        @Value("${auction.bid.sequencer.lanes:8}") int laneCount,
+                        @Value("${auction.bid.sequencer.queue-capacity:10000}") int queueCapacity,
+                        @Value("${auction.bid.sequencer.max-batch-size:200}") int maxBatchSize,
+                        @Value("${auction.bid.sequencer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.bidBatchProcessor = bidBatchProcessor;
+        this.maxBatchSize = maxBatchSize;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.batchSize = DistributionSummary.builder("auction.bid.sequencer.batch.size")
+                .description("lane이 한 번에 꺼낸 경매 하나의 입찰 수 (= 트랜잭션 하나)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        List<Lane> created = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(new ArrayBlockingQueue<>(queueCapacity));
+            Gauge.builder("auction.bid.sequencer.queue", lane.queue, BlockingQueue::size)
+                    .description("lane에서 처리를 기다리는 입찰 수")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lane.thread = Thread.ofPlatform().name("bid-lane-" + i).daemon(true).start(lane::run);
+            created.add(lane);
+        }
+        this.lanes = List.copyOf(created);
+        log.info("입찰 sequencer 시작: lane {}개, lane당 큐 {}건", laneCount, queueCapacity);
+    }
+
+    /**
+     * 입찰을 경매의 lane에 넣는다. 결과는 트랜잭션이 커밋된 뒤 완료된다.
+     *
+     * @throws BidQueueFullException lane 큐가 가득 찬 경우
+     */
+    public CompletableFuture<Bid> submit(BidCreateRequest request) {
+        PendingBid pending = new PendingBid(request, new CompletableFuture<>());
+        Lane lane = lanes.get(laneIndex(request.getAuctionId(), lanes.size()));
+        if (!running || !lane.queue.offer(pending)) {
+            throw new BidQueueFullException();
+        }
+        return pending.result();
+    }
+
+    static int laneIndex(long auctionId, int laneCount) {
+        return Math.floorMod(Long.hashCode(auctionId), laneCount);
+    }
+
+    /**
+     * 새 입찰을 막고, 이미 받은 입찰은 처리한 뒤 종료한다
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        for (Lane lane : lanes) {
+            lane.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            if (lane.thread.isAlive()) {
+                lane.thread.interrupt();
+                log.warn("입찰 lane 종료 시간 초과, 남은 입찰 {}건: {}", lane.queue.size(), lane.thread.getName());
+            }
+        }
+        completionExecutor.shutdown();
+    }
+
+    private void processBatch(List<PendingBid> drained) {
+        // 도착 순서를 유지한 채 경매별로 묶는다
+        Map<Long, List<PendingBid>> byAuction = new LinkedHashMap<>();
+        for (PendingBid pending : drained) {
+            byAuction.computeIfAbsent(pending.request().getAuctionId(), id -> new ArrayList<>()).add(pending);
+        }
+
+        byAuction.forEach((auctionId, pendings) -> {
+            batchSize.record(pendings.size());
+            try {
+                List<BidOutcome> outcomes = bidBatchProcessor.process(
+                        auctionId, pendings.stream().map(PendingBid::request).toList());
+                // 커밋이 끝난 뒤에 결과를 알린다
+                for (int i = 0; i < pendings.size(); i++) {
+                    complete(pendings.get(i).result(), outcomes.get(i));
+                }
+            } catch (Throwable e) {
+                // Error도 여기서 묶음 실패로 끝내야 lane 스레드가 살아남아 이 lane의 다음 입찰을 처리한다
+                log.error("입찰 묶음 처리 실패: 경매ID={}, {}건", auctionId, pendings.size(), e);
+                RuntimeException rejection = e instanceof RuntimeException runtime
+                        ? runtime
+                        : new IllegalStateException("입찰 묶음 처리 실패", e);
+                pendings.forEach(pending -> complete(pending.result(), BidOutcome.rejected(rejection)));
+            }
+        });
+    }
+
+    // 이어지는 응답 작업(일관성 토큰 발급 등)이 lane을 막지 않도록 요청마다 가상 스레드에서 완료
+    private void complete(CompletableFuture<Bid> result, BidOutcome outcome) {
+        Runnable completion = () -> {
+            if (outcome.rejection() != null) {
+                result.completeExceptionally(outcome.rejection());
+            } else {
+                result.complete(outcome.bid());
+            }
+        };
+        try {
+            completionExecutor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            // 종료 시간 초과 후 중단된 lane - 응답을 잃지 않도록 lane 스레드에서 바로 완료
+            completion.run();
+        }
+    }
+
+    private record PendingBid(BidCreateRequest request, CompletableFuture<Bid> result) {
+    }
+
+    private final class Lane {
+
+        private final BlockingQueue<PendingBid> queue;
+        private Thread thread;
+
+        private Lane(BlockingQueue<PendingBid> queue) {
+            this.queue = queue;
+        }
+
+        private void run() {
+            List<PendingBid> drained = new ArrayList<>(maxBatchSize);
+            while (running || !queue.isEmpty()) {
+                PendingBid first;
+                try {
+                    first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+                drained.add(first);
+                queue.drainTo(drained, maxBatchSize - 1);
+                processBatch(drained);
+                drained.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.entity.User;
+import com.example.demo.exception.AlreadyWinningBidderException;
+import com.example.demo.exception.AuctionNotActiveException;
+import com.example.demo.exception.BidTooLowException;
+import com.example.demo.exception.SellerCannotBidException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입찰 비즈니스 규칙 검증 - DB를 조회하지 않고, 묶음 안에서 앞선 입찰이 반영된 경매 상태로 검증한다
+ */
+@Component
+public class BidValidator {
+
+    /**
+     * @param winningBidderId 현재 최고가 입찰자 ID, 입찰이 없으면 null
+     * @param now             입찰 시각 - 종료 배치가 아직 돌지 않았어도 종료 시간이 지났으면 거절
+     */
+    public void validate(Auction auction, User bidder, BigDecimal bidAmount, Long winningBidderId, LocalDateTime now) {
+        // 경매 상태 확인
+        if (auction.getStatus() != AuctionStatus.ACTIVE) {
+            throw new AuctionNotActiveException(auction.getId());
+        }
+        if (auction.getEndTime() != null && !auction.getEndTime().isAfter(now)) {
+            throw new AuctionNotActiveException(auction.getId());
+        }
+
+        // 자신의 경매에 입찰 불가
+        if (auction.getSeller().getId().equals(bidder.getId())) {
+            throw new SellerCannotBidException();
+        }
+
+        // 최소 입찰 금액 확인
+        BigDecimal minimumBid = auction.getCurrentPrice().add(auction.getMinBidIncrement());
+        if (bidAmount.compareTo(minimumBid) < 0) {
+            throw new BidTooLowException(minimumBid);
+        }
+
+        // 현재 최고가 입찰자인지 확인 (동일 사용자 연속 입찰 방지)
+        if (bidder.getId().equals(winningBidderId)) {
+            throw new AlreadyWinningBidderException();
+        }
+    }
+
+    /**
+     * 캐시된(뒤처졌을 수 있는) 경매 상태로 하는 사전 검증 - 값이 최신이 아니어도 결론이 뒤집히지 않는 규칙만 본다.
+     * 상태는 PENDING → ACTIVE → ENDED, 현재가는 오르기만 하고, 종료 시간/판매자/최소 증가액은 변하지 않는다.
+     * 최고가 입찰자는 다른 노드의 입찰로 바뀔 수 있어 여기서는 보지 않는다.
+     */
+    public void precheck(AuctionState state, Long bidderId, BigDecimal bidAmount, LocalDateTime now) {
+        if (state.status() == AuctionStatus.ENDED || !state.endTime().isAfter(now)) {
+            throw new AuctionNotActiveException(state.auctionId());
+        }
+
+        if (state.sellerId().equals(bidderId)) {
+            throw new SellerCannotBidException();
+        }
+
+        // 실제 현재가는 캐시 값 이상이므로 이보다 낮으면 실제로도 낮다
+        BigDecimal minimumBid = state.currentPrice().add(state.minBidIncrement());
+        if (bidAmount.compareTo(minimumBid) < 0) {
+            throw new BidTooLowException(minimumBid);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.entity.Bid;
+import com.example.demo.entity.User;
+import com.example.demo.exception.AuctionNotFoundException;
+import com.example.demo.exception.BidContentionException;
+import com.example.demo.exception.UserNotFoundException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 한 문장으로 입찰을 검증하고 현재가를 올리는 입찰 처리 경로.
+ * <p>
+ * 모든 입찰 규칙을 {@code UPDATE auctions ... WHERE} 조건에 넣어, 반영된 행이 1이면 통과한 것으로 보고
+ * 입찰 INSERT와 최고가 입찰 포인터 갱신만 이어서 실행한다. 경매 행 잠금은 이 UPDATE부터 커밋까지만 잡히며,
+ * 이전 최고가 입찰 행은 건드리지 않는다.
+ * 반영된 행이 0이면 진단용 SELECT로 현재 상태를 읽어 {@link BidValidator}로 어떤 규칙에 걸렸는지 찾아 그 예외를 던진다.
+ * 진단 시점에 모든 규칙을 통과하면 경합으로 보고 다시 시도하며, 끝내 경합하면 {@link BidContentionException}(재시도 가능)을 던진다.
+ */
+@Slf4j
+@Component
+public class ConditionalBidProcessor {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    // 응답에 필요한 이름 조회 겸 존재 확인 - 아직 잠금을 잡지 않는다
+    private static final String NAMES_SQL =
+            "SELECT (SELECT title FROM auctions WHERE id = ?) AS title, " +
+                    "(SELECT username FROM users WHERE id = ?) AS username";
+    private static final String ACCEPT_SQL =
+            "UPDATE auctions SET current_price = ?, bid_count = bid_count + 1, leading_bidder_id = ?, updated_at = ? " +
+                    "WHERE id = ? AND status = 'ACTIVE' AND end_time > ? " +
+                    "AND current_price + min_bid_increment <= ? AND seller_id <> ? " +
+                    "AND (leading_bidder_id IS NULL OR leading_bidder_id <> ?)";
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bids (auction_id, bidder_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final String LEADING_BID_SQL =
+            "UPDATE auctions SET leading_bid_id = ? WHERE id = ?";
+    // 잠금 읽기로 최신 커밋 상태를 본다 (일반 SELECT는 트랜잭션 첫 조회 시점의 스냅샷을 읽어 UPDATE가 본 값보다 뒤처질 수 있음)
+    private static final String DIAGNOSE_SQL =
+            "SELECT status, end_time, current_price, min_bid_increment, seller_id, leading_bidder_id " +
+                    "FROM auctions WHERE id = ? FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BidValidator bidValidator;
+    private final AuctionStateCache auctionStateCache;
+
+    public ConditionalBidProcessor(DataSource dataSource, BidValidator bidValidator,
+                                   AuctionStateCache auctionStateCache) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.bidValidator = bidValidator;
+        this.auctionStateCache = auctionStateCache;
+    }
+
+    @Transactional
+    public Bid process(BidCreateRequest request) {
+        Long auctionId = request.getAuctionId();
+        Long bidderId = request.getBidderId();
+
+        Map<String, Object> names = jdbcTemplate.queryForMap(NAMES_SQL, auctionId, bidderId);
+        if (names.get("title") == null) {
+            throw new AuctionNotFoundException(auctionId);
+        }
+        if (names.get("username") == null) {
+            throw new UserNotFoundException(bidderId);
+        }
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            int accepted = jdbcTemplate.update(ACCEPT_SQL,
+                    request.getBidAmount(), bidderId, now,
+                    auctionId, now,
+                    request.getBidAmount(), bidderId,
+                    bidderId);
+            if (accepted == 1) {
+                long bidId = insertBid(request, now);
+                jdbcTemplate.update(LEADING_BID_SQL, bidId, auctionId);
+                auctionStateCache.advancePriceAfterCommit(auctionId, request.getBidAmount());
+                log.debug("조건부 입찰 성공: 입찰ID={}", bidId);
+                Auction auction = Auction.builder()
+                        .id(auctionId)
+                        .title((String) names.get("title"))
+                        .leadingBidId(bidId)
+                        .build();
+                return Bid.builder()
+                        .id(bidId)
+                        .auction(auction)
+                        .bidder(User.builder().id(bidderId).username((String) names.get("username")).build())
+                        .bidAmount(request.getBidAmount())
+                        .bidTime(now)
+                        .build();
+            }
+
+            // 규칙에 걸렸다면 여기서 해당 예외가 나간다
+            diagnose(request, now);
+            // 진단 시점에는 통과 - UPDATE와 진단 사이에 다른 입찰이 최고가를 바꿨으므로 다시 시도
+        }
+        // 입찰 금액 문제가 아니므로 같은 요청을 다시 보내면 된다
+        throw new BidContentionException(auctionId);
+    }
+
+    private long insertBid(BidCreateRequest request, LocalDateTime now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS);
+            statement.setLong(1, request.getAuctionId());
+            statement.setLong(2, request.getBidderId());
+            statement.setBigDecimal(3, request.getBidAmount());
+            statement.setTimestamp(4, Timestamp.valueOf(now));
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void diagnose(BidCreateRequest request, LocalDateTime now) {
+        Diagnosis diagnosis = jdbcTemplate.query(DIAGNOSE_SQL, (rs, rowNum) -> new Diagnosis(
+                        Auction.builder()
+                                .id(request.getAuctionId())
+                                .status(AuctionStatus.valueOf(rs.getString("status")))
+                                .endTime(rs.getTimestamp("end_time").toLocalDateTime())
+                                .currentPrice(rs.getBigDecimal("current_price"))
+                                .minBidIncrement(rs.getBigDecimal("min_bid_increment"))
+                                .seller(User.builder().id(rs.getLong("seller_id")).build())
+                                .build(),
+                        rs.getObject("leading_bidder_id", Long.class)), request.getAuctionId())
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new AuctionNotFoundException(request.getAuctionId()));
+
+        // 진단 결과는 커밋된 최신 상태이므로 바로 캐시에 반영
+        auctionStateCache.update(AuctionState.of(diagnosis.auction()));
+        bidValidator.validate(diagnosis.auction(), User.builder().id(request.getBidderId()).build(),
+                request.getBidAmount(), diagnosis.winningBidderId(), now);
+    }
+
+    private record Diagnosis(Auction auction, Long winningBidderId) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.entity.Bid;
+import com.example.demo.entity.User;
+import com.example.demo.exception.AuctionNotFoundException;
+import com.example.demo.exception.UserNotFoundException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * group commit 한 번에 모인 여러 경매의 입찰을 트랜잭션 하나로 쓴다.
+ * <p>
+ * 관련 경매 행을 id 순서로 한 번에 잠그고(노드 간 교착 방지), 입찰을 도착 순서대로 메모리에서 검증한 뒤
+ * 통과한 입찰 INSERT와 경매 갱신을 각각 JDBC 배치 하나로 보낸다. 입찰 수와 관계없이 DB 왕복은 4번, 커밋은 1번이다.
+ */
+@Slf4j
+@Component
+public class GroupCommitBidWriter {
+
+    private static final String LOCK_AUCTIONS_SQL =
+            "SELECT id, title, status, end_time, current_price, min_bid_increment, seller_id, bid_count, " +
+                    "leading_bidder_id FROM auctions WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    private static final String BIDDERS_SQL =
+            "SELECT id, username FROM users WHERE id IN (:ids)";
+    private static final String INSERT_BID_SQL =
+            "INSERT INTO bids (auction_id, bidder_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final String UPDATE_AUCTION_SQL =
+            "UPDATE auctions SET current_price = ?, bid_count = ?, leading_bid_id = ?, leading_bidder_id = ?, " +
+                    "updated_at = ? WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BidValidator bidValidator;
+    private final AuctionStateCache auctionStateCache;
+
+    public GroupCommitBidWriter(DataSource dataSource, BidValidator bidValidator,
+                                AuctionStateCache auctionStateCache) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.bidValidator = bidValidator;
+        this.auctionStateCache = auctionStateCache;
+    }
+
+    /**
+     * @return requests와 같은 순서의 입찰별 결과
+     */
+    @Transactional
+    public List<BidOutcome> write(List<BidCreateRequest> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Auction> auctions = lockAuctions(
+                requests.stream().map(BidCreateRequest::getAuctionId).distinct().sorted().toList());
+        Map<Long, User> bidders = findBidders(
+                requests.stream().map(BidCreateRequest::getBidderId).distinct().toList());
+
+        List<BidOutcome> outcomes = new ArrayList<>(requests.size());
+        List<Bid> accepted = new ArrayList<>();
+        for (BidCreateRequest request : requests) {
+            Auction auction = auctions.get(request.getAuctionId());
+            if (auction == null) {
+                outcomes.add(BidOutcome.rejected(new AuctionNotFoundException(request.getAuctionId())));
+                continue;
+            }
+            User bidder = bidders.get(request.getBidderId());
+            if (bidder == null) {
+                outcomes.add(BidOutcome.rejected(new UserNotFoundException(request.getBidderId())));
+                continue;
+            }
+
+            try {
+                bidValidator.validate(auction, bidder, request.getBidAmount(), auction.getLeadingBidderId(), now);
+            } catch (RuntimeException e) {
+                outcomes.add(BidOutcome.rejected(e));
+                continue;
+            }
+
+            Bid bid = Bid.builder()
+                    .auction(auction)
+                    .bidder(bidder)
+                    .bidAmount(request.getBidAmount())
+                    .bidTime(now)
+                    .build();
+            accepted.add(bid);
+            outcomes.add(BidOutcome.accepted(bid));
+
+            // 같은 흐름의 다음 입찰은 이 입찰이 반영된 상태로 검증
+            auction.setCurrentPrice(request.getBidAmount());
+            auction.setBidCount(auction.getBidCount() + 1);
+            auction.setLeadingBidderId(bidder.getId());
+        }
+
+        if (!accepted.isEmpty()) {
+            insertBids(accepted);
+            updateAuctions(accepted, now);
+        }
+        log.debug("입찰 group commit: 요청={}건, 경매={}개, 성공={}건", requests.size(), auctions.size(), accepted.size());
+        return outcomes;
+    }
+
+    private Map<Long, Auction> lockAuctions(List<Long> auctionIds) {
+        Map<Long, Auction> auctions = new HashMap<>();
+        jdbcTemplate.query(LOCK_AUCTIONS_SQL, Map.of("ids", auctionIds), rs -> {
+            Auction auction = Auction.builder()
+                    .id(rs.getLong("id"))
+                    .title(rs.getString("title"))
+                    .status(AuctionStatus.valueOf(rs.getString("status")))
+                    .endTime(rs.getTimestamp("end_time").toLocalDateTime())
+                    .currentPrice(rs.getBigDecimal("current_price"))
+                    .minBidIncrement(rs.getBigDecimal("min_bid_increment"))
+                    .seller(User.builder().id(rs.getLong("seller_id")).build())
+                    .bidCount(rs.getInt("bid_count"))
+                    .leadingBidderId(rs.getObject("leading_bidder_id", Long.class))
+                    .build();
+            auctions.put(auction.getId(), auction);
+        });
+        return auctions;
+    }
+
+    private Map<Long, User> findBidders(List<Long> bidderIds) {
+        Map<Long, User> bidders = new HashMap<>();
+        jdbcTemplate.query(BIDDERS_SQL, Map.of("ids", bidderIds), rs -> {
+            User bidder = User.builder().id(rs.getLong("id")).username(rs.getString("username")).build();
+            bidders.put(bidder.getId(), bidder);
+        });
+        return bidders;
+    }
+
+    private void insertBids(List<Bid> bids) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                connection -> connection.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        Bid bid = bids.get(i);
+                        statement.setLong(1, bid.getAuction().getId());
+                        statement.setLong(2, bid.getBidder().getId());
+                        statement.setBigDecimal(3, bid.getBidAmount());
+                        statement.setTimestamp(4, Timestamp.valueOf(bid.getBidTime()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return bids.size();
+                    }
+                },
+                keyHolder);
+
+        // 생성된 키는 배치 순서와 같다 (키 컬럼 이름은 드라이버마다 달라 첫 값을 사용)
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < bids.size(); i++) {
+            bids.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void updateAuctions(List<Bid> accepted, LocalDateTime now) {
+        // 경매별로 마지막에 통과한 입찰이 최고가 입찰
+        Map<Long, Bid> leadingBids = new LinkedHashMap<>();
+        for (Bid bid : accepted) {
+            leadingBids.put(bid.getAuction().getId(), bid);
+        }
+
+        List<Object[]> arguments = new ArrayList<>(leadingBids.size());
+        for (Bid leading : leadingBids.values()) {
+            Auction auction = leading.getAuction();
+            auction.setLeadingBidId(leading.getId());
+            arguments.add(new Object[]{auction.getCurrentPrice(), auction.getBidCount(), leading.getId(),
+                    auction.getLeadingBidderId(), now, auction.getId()});
+            auctionStateCache.updateAfterCommit(AuctionState.of(auction));
+        }
+        jdbcTemplate.getJdbcTemplate().batchUpdate(UPDATE_AUCTION_SQL, arguments);
+    }
+}
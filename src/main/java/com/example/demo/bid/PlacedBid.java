@@ -0,0 +1,9 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.Bid;
+
+/**
+ * 커밋된 입찰과 그 커밋이 포함된 일관성 토큰 (master GTID 집합, 조회할 수 없으면 null)
+ */
+public record PlacedBid(Bid bid, String consistencyToken) {
+}
@@ -0,0 +1,166 @@
+package com.example.demo.config;
+
+import com.example.demo.config.replica.ReplicaLoadBalancingStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * master와 읽기 replica 접속 설정 (auction.datasource.*).
+ * <p>
+ * replicas를 비워 두면 기존 단일 slave 설정(auction.datasource.slave.*)을 replica 하나로 사용한다.
+ * batch/scheduler는 쓰기 대상 노드(master, 승격 후보 replica)마다 붙는 별도 풀로, url을 비워 두면 노드의 접속 정보를 그대로 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auction.datasource")
+public class AuctionDataSourceProperties {
+
+    private String driverClassName = "com.mysql.cj.jdbc.Driver";
+
+    private Endpoint master = new Endpoint(
+            "jdbc:mysql://localhost:3306/master_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul" +
+                    "&rewriteBatchedStatements=true");
+
+    private Endpoint slave = new Endpoint(
+            "jdbc:mysql://localhost:3307/slave_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul");
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 배치 Step 전용 풀 - 청크 워커 수(grid-size)에 맞추고, 배치가 없을 때는 커넥션을 잡아 두지 않는다
+    private Endpoint batch = new Endpoint(null, 8, 0);
+
+    // lease 갱신, heartbeat, outbox relay, 휠 전환 전용 풀 - 배치나 웹 요청이 몰려도 lease 갱신이 밀리지 않게.
+    // 크기를 0으로 두면 이 풀을 동시에 쓰는 스케줄러 작업 수로 정한다
+    private Endpoint scheduler = new Endpoint(null, 0, 1);
+
+    private LoadBalancing loadBalancing = new LoadBalancing();
+
+    private Health health = new Health();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private Failover failover = new Failover();
+
+    /**
+     * node(master 또는 승격 후보 replica)에 붙는 batch 풀 접속 정보
+     */
+    public Endpoint resolveBatch(Endpoint node) {
+        return resolvePool(batch, node, batch.getMaximumPoolSize());
+    }
+
+    /**
+     * node에 붙는 scheduler 풀 접속 정보 - 크기를 지정하지 않았으면 concurrentTasks
+     */
+    public Endpoint resolveScheduler(Endpoint node, int concurrentTasks) {
+        int maximumPoolSize = scheduler.getMaximumPoolSize() > 0 ? scheduler.getMaximumPoolSize() : concurrentTasks;
+        return resolvePool(scheduler, node, maximumPoolSize);
+    }
+
+    // url을 지정한 풀은 master 대신 그 주소로 붙는다 (승격 후보 replica는 항상 replica 주소)
+    private Endpoint resolvePool(Endpoint pool, Endpoint node, int maximumPoolSize) {
+        Endpoint target = node == master && pool.getUrl() != null ? pool : node;
+        Endpoint resolved = new Endpoint(target.getUrl(), maximumPoolSize, pool.getMinimumIdle());
+        resolved.setUsername(target.getUsername());
+        resolved.setPassword(target.getPassword());
+        resolved.setConnectionTimeoutMs(pool.getConnectionTimeoutMs());
+        return resolved;
+    }
+
+    /**
+     * 쓰기 대상으로 승격할 수 있는 replica 목록 - failover를 끄면 비어 있다
+     */
+    public List<Replica> resolveFailoverReplicas() {
+        if (!failover.isEnabled()) {
+            return List.of();
+        }
+        return resolveReplicas().stream()
+                .filter(replica -> failover.getCandidates().isEmpty() || failover.getCandidates().contains(replica.getName()))
+                .toList();
+    }
+
+    /**
+     * 실제로 사용할 replica 목록
+     */
+    public List<Replica> resolveReplicas() {
+        if (!replicas.isEmpty()) {
+            return replicas;
+        }
+        Replica single = new Replica();
+        single.setName("slave");
+        single.setUrl(slave.getUrl());
+        single.setUsername(slave.getUsername());
+        single.setPassword(slave.getPassword());
+        return List.of(single);
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private String url;
+        private String username = "root";
+        private String password = "password";
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 5;
+        private long connectionTimeoutMs = 5000;  // circuit이 열리기 전까지 장애 노드에서 기다리는 최대 시간
+
+        public Endpoint() {
+        }
+
+        Endpoint(String url) {
+            this.url = url;
+        }
+
+        Endpoint(String url, int maximumPoolSize, int minimumIdle) {
+            this.url = url;
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Replica extends Endpoint {
+        private String name;
+        private int weight = 1;              // WEIGHTED 방식의 비율, 다른 방식에서는 점수의 분모
+
+        public Replica() {
+            // 죽은 replica에서 오래 기다리지 않도록 master보다 짧게 (읽기는 다른 replica나 master로 대체 가능)
+            setConnectionTimeoutMs(3000);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class LoadBalancing {
+        private ReplicaLoadBalancingStrategy strategy = ReplicaLoadBalancingStrategy.LEAST_OUTSTANDING;
+        private double ewmaAlpha = 0.2;      // EWMA_LATENCY에서 새 측정값의 반영 비율
+    }
+
+    @Getter
+    @Setter
+    public static class Health {
+        private long checkIntervalMs = 2000;
+        private int validationTimeoutSeconds = 1;
+        private int failureThreshold = 3;    // 연속 실패 N번이면 제외
+        private int recoveryThreshold = 2;   // 제외된 replica는 연속 성공 N번이면 복귀
+        private long warmupSeconds = 30;     // 복귀 후 이 시간 동안 가중치를 10%에서 100%까지 올림
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int failureThreshold = 3;    // 커넥션 획득 연속 실패 N번이면 OPEN
+        private long openDurationMs = 5000;  // OPEN 동안 즉시 실패, 지나면 요청 하나로 probe
+    }
+
+    @Getter
+    @Setter
+    public static class Failover {
+        private boolean enabled = false;     // replica를 쓰기 대상으로 승격 (replica가 read_only=ON으로 운영될 때만 켤 것)
+        private List<String> candidates = new ArrayList<>();  // 승격 후보 replica 이름, 비우면 전체
+        private long checkIntervalMs = 1000;
+    }
+}
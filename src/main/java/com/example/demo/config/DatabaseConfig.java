@@ -1,52 +1,154 @@
 package com.example.demo.config;
 
+import com.example.demo.config.failover.CircuitBreaker;
+import com.example.demo.config.failover.CircuitBreakerDataSource;
+import com.example.demo.config.failover.FailoverDataSource;
+import com.example.demo.config.replica.LoadBalancedReplicaDataSource;
+import com.example.demo.config.replica.Replica;
+import com.example.demo.config.replica.ReplicaLoadBalancer;
+import com.example.demo.config.replica.ReplicaSet;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSource;
+import org.springframework.boot.autoconfigure.batch.BatchTransactionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableTransactionManagement
+@EnableConfigurationProperties(AuctionDataSourceProperties.class)
 public class DatabaseConfig {
 
+    /**
+     * master 커넥션 풀 - 직접 주입하지 말고 masterDataSource(circuit breaker + 승격 대응)를 사용
+     */
+    @Bean(defaultCandidate = false)
+    public HikariDataSource masterPoolDataSource(AuctionDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return createDataSource("master", properties.getMaster(), properties.getDriverClassName(), meterRegistry);
+    }
+
+    /**
+     * 쓰기 대상 DataSource - master(승격 시 승격된 replica)로 위임하며, 노드마다 circuit breaker로 장애 시 즉시 실패
+     */
     @Bean
-    public DataSource masterDataSource() {
-        HikariDataSource dataSource = new HikariDataSource();
-        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/master_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul");
-        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-        dataSource.setUsername("root");
-        dataSource.setPassword("password");
-        dataSource.setMaximumPoolSize(10);
-        dataSource.setMinimumIdle(5);
-        return dataSource;
+    public FailoverDataSource masterDataSource(@Qualifier("masterPoolDataSource") HikariDataSource masterPoolDataSource,
+                                               ReplicaSet replicaSet,
+                                               AuctionDataSourceProperties properties,
+                                               MeterRegistry meterRegistry) {
+        Map<String, DataSource> candidates = new LinkedHashMap<>();
+        candidates.put("master", protect("master", masterPoolDataSource, properties, meterRegistry));
+
+        Set<String> failoverReplicas = properties.resolveFailoverReplicas().stream()
+                .map(AuctionDataSourceProperties.Replica::getName)
+                .collect(Collectors.toSet());
+        for (Replica replica : replicaSet.getReplicas()) {
+            if (failoverReplicas.contains(replica.getName())) {
+                // replica DataSource는 이미 circuit breaker로 감싸져 있다
+                candidates.put(replica.getName(), replica.getDataSource());
+            }
+        }
+        return new FailoverDataSource("master", candidates);
+    }
+
+    /**
+     * 배치 전용 DataSource - Step 트랜잭션과 BATCH_* 메타데이터 갱신이 웹 요청과 같은 풀에서 커넥션을 다투지 않도록 분리.
+     * 쓰기 대상 노드마다 풀을 두고 masterDataSource와 함께 승격/복귀한다.
+     */
+    @Bean(defaultCandidate = false)
+    @BatchDataSource
+    public FailoverDataSource batchDataSource(AuctionDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return perNodeDataSource("batch", properties::resolveBatch, properties, meterRegistry);
+    }
+
+    @Bean(defaultCandidate = false)
+    @BatchTransactionManager
+    public PlatformTransactionManager batchTransactionManager(@Qualifier("batchDataSource") DataSource batchDataSource) {
+        return new DataSourceTransactionManager(batchDataSource);
     }
 
+    /**
+     * 스케줄러 전용 DataSource - lease 갱신, heartbeat, outbox relay, 휠 전환이 배치나 웹 트래픽에 밀려
+     * lease를 잃거나 지연 측정이 멈추지 않도록 분리. 쓰기 대상 노드마다 풀을 두고 masterDataSource와 함께 승격/복귀한다.
+     * <p>
+     * 크기를 지정하지 않으면 이 풀을 동시에 쓸 수 있는 스레드 수로 정한다:
+     * 배치 스케줄러 스레드(lease 획득/반납, 휠 preload) + 인프라 스케줄러 스레드(heartbeat, outbox relay/purge)
+     * + 휠 tick + lease 갱신 스레드
+     */
+    @Bean(defaultCandidate = false)
+    public FailoverDataSource schedulerDataSource(AuctionDataSourceProperties properties, MeterRegistry meterRegistry,
+                                                  @Value("${auction.scheduling.batch-pool-size:3}") int batchPoolSize,
+                                                  @Value("${auction.scheduling.infrastructure-pool-size:6}") int infrastructurePoolSize) {
+        int concurrentTasks = batchPoolSize + infrastructurePoolSize + 2;
+        return perNodeDataSource("scheduler", node -> properties.resolveScheduler(node, concurrentTasks),
+                properties, meterRegistry);
+    }
+
+    /**
+     * 읽기 replica 목록 - replica마다 별도의 커넥션 풀
+     */
     @Bean
-    public DataSource slaveDataSource() {
-        HikariDataSource dataSource = new HikariDataSource();
-        dataSource.setJdbcUrl("jdbc:mysql://localhost:3307/slave_db?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul");
-        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
-        dataSource.setUsername("root");
-        dataSource.setPassword("password");
-        dataSource.setMaximumPoolSize(10);
-        dataSource.setMinimumIdle(5);
-        return dataSource;
+    public ReplicaSet replicaSet(AuctionDataSourceProperties properties, MeterRegistry meterRegistry) {
+        AuctionDataSourceProperties.LoadBalancing loadBalancing = properties.getLoadBalancing();
+        AuctionDataSourceProperties.Health health = properties.getHealth();
+
+        List<Replica> replicas = properties.resolveReplicas().stream()
+                .map(endpoint -> {
+                    String poolName = "replica-" + endpoint.getName();
+                    HikariDataSource dataSource = createDataSource(
+                            poolName, endpoint, properties.getDriverClassName(), meterRegistry);
+                    return new Replica(endpoint.getName(), protect(poolName, dataSource, properties, meterRegistry),
+                            endpoint.getWeight(), loadBalancing.getEwmaAlpha(), health.getWarmupSeconds());
+                })
+                .toList();
+        return new ReplicaSet(replicas, health.getFailureThreshold(), health.getRecoveryThreshold(), meterRegistry);
+    }
+
+    /**
+     * 읽기 전용 DataSource - 커넥션마다 허용 지연 안의 replica를 부하 분산 전략으로 고르고, 없으면 master에서 조회
+     */
+    @Bean
+    public DataSource slaveDataSource(ReplicaSet replicaSet,
+                                      AuctionDataSourceProperties properties,
+                                      @Qualifier("masterDataSource") DataSource masterDataSource,
+                                      @Value("${auction.replication.default-max-staleness-ms:5000}") long defaultMaxStalenessMs,
+                                      @Value("${auction.replication.gtid-wait-timeout-ms:50}") long gtidWaitTimeoutMs) {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(
+                replicaSet, properties.getLoadBalancing().getStrategy());
+        return new LoadBalancedReplicaDataSource(loadBalancer, replicaSet, masterDataSource,
+                defaultMaxStalenessMs, gtidWaitTimeoutMs);
     }
 
     @Bean
     @Primary
     @Lazy
     public DataSource routingDataSource(@Qualifier("masterDataSource") DataSource masterDataSource,
-                                       @Qualifier("slaveDataSource") DataSource slaveDataSource) {
-        RoutingDataSource routingDataSource = new RoutingDataSource();
+                                       @Qualifier("slaveDataSource") DataSource slaveDataSource,
+                                       RoutingDiagnostics routingDiagnostics,
+                                       ReplicaSet replicaSet,
+                                       @Value("${auction.replication.default-max-staleness-ms:5000}") long defaultMaxStalenessMs) {
+        RoutingDataSource routingDataSource = new RoutingDataSource(routingDiagnostics, replicaSet, defaultMaxStalenessMs);
 
         Map<Object, Object> dataSourceMap = new HashMap<>();
         dataSourceMap.put("master", masterDataSource);
@@ -61,4 +163,95 @@ public class DatabaseConfig {
         // LazyConnectionDataSourceProxy로 감싸서 실제 SQL 실행 시점에 라우팅 결정
         return new LazyConnectionDataSourceProxy(routingDataSource);
     }
-}
\ No newline at end of file
+
+    /**
+     * 배치 후보 조회용 DataSource - 복제 지연이 허용 범위면 slave, 아니면 배치 풀로 master에서 조회.
+     * slave 쪽도 고를 replica가 없으면 웹 요청용 master 풀이 아니라 배치 풀로 대체해, 배치 조회가 입찰 커넥션을 빼앗지 않게 한다.
+     */
+    @Bean
+    public DataSource batchScanDataSource(@Qualifier("batchDataSource") DataSource batchDataSource,
+                                          ReplicaSet replicaSet,
+                                          AuctionDataSourceProperties properties,
+                                          ReplicationLagMonitor replicationLagMonitor,
+                                          @Value("${auction.batch.scan.use-replica:true}") boolean useReplica,
+                                          @Value("${auction.replication.max-lag-seconds:5}") long maxLagSeconds,
+                                          @Value("${auction.replication.gtid-wait-timeout-ms:50}") long gtidWaitTimeoutMs) {
+        ReplicaScanDataSource scanDataSource = new ReplicaScanDataSource(replicationLagMonitor, useReplica);
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(
+                replicaSet, properties.getLoadBalancing().getStrategy());
+        // replica 선택 기준은 isReplicaUsable()과 같은 max-lag-seconds
+        DataSource slaveDataSource = new LoadBalancedReplicaDataSource(loadBalancer, replicaSet, batchDataSource,
+                TimeUnit.SECONDS.toMillis(maxLagSeconds), gtidWaitTimeoutMs);
+
+        Map<Object, Object> dataSourceMap = new HashMap<>();
+        dataSourceMap.put("master", batchDataSource);
+        dataSourceMap.put("slave", slaveDataSource);
+
+        scanDataSource.setTargetDataSources(dataSourceMap);
+        scanDataSource.setDefaultTargetDataSource(batchDataSource);
+        scanDataSource.afterPropertiesSet();
+        return scanDataSource;
+    }
+
+    /**
+     * 쓰기 대상 노드(master + 승격 후보 replica)마다 poolName 풀을 만들어 FailoverDataSource로 묶는다.
+     * 후보 이름이 masterDataSource와 같아 {@link com.example.demo.config.failover.FailoverManager}가 함께 전환/차단한다.
+     */
+    private FailoverDataSource perNodeDataSource(String poolName,
+                                                 UnaryOperator<AuctionDataSourceProperties.Endpoint> resolver,
+                                                 AuctionDataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> candidates = new LinkedHashMap<>();
+        HikariDataSource masterPool = createDataSource(
+                poolName, resolver.apply(properties.getMaster()), properties.getDriverClassName(), meterRegistry);
+        candidates.put("master", protect(poolName, masterPool, properties, meterRegistry));
+
+        for (AuctionDataSourceProperties.Replica replica : properties.resolveFailoverReplicas()) {
+            String nodePoolName = poolName + "-" + replica.getName();
+            HikariDataSource nodePool = createDataSource(
+                    nodePoolName, resolver.apply(replica), properties.getDriverClassName(), meterRegistry);
+            candidates.put(replica.getName(), protect(nodePoolName, nodePool, properties, meterRegistry));
+        }
+        return new FailoverDataSource("master", candidates);
+    }
+
+    private HikariDataSource createDataSource(String poolName, AuctionDataSourceProperties.Endpoint endpoint,
+                                              String driverClassName, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(endpoint.getUrl());
+        dataSource.setDriverClassName(driverClassName);
+        dataSource.setUsername(endpoint.getUsername());
+        dataSource.setPassword(endpoint.getPassword());
+        dataSource.setMaximumPoolSize(endpoint.getMaximumPoolSize());
+        dataSource.setMinimumIdle(endpoint.getMinimumIdle());
+        dataSource.setConnectionTimeout(endpoint.getConnectionTimeoutMs());
+        // hikaricp.connections.* (active, idle, pending, acquire) 메트릭을 풀 이름 태그로 기록
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        Gauge.builder("auction.datasource.pool.saturation", dataSource, DatabaseConfig::saturation)
+                .description("(사용 중 커넥션 + 커넥션 대기 스레드) / 최대 풀 크기, 1을 넘으면 커넥션을 기다리는 요청이 있음")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        return dataSource;
+    }
+
+    private CircuitBreakerDataSource protect(String name, DataSource dataSource,
+                                             AuctionDataSourceProperties properties, MeterRegistry meterRegistry) {
+        AuctionDataSourceProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                name, settings.getFailureThreshold(), settings.getOpenDurationMs());
+        Gauge.builder("auction.datasource.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("circuit 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+                .tag("datasource", name)
+                .register(meterRegistry);
+        return new CircuitBreakerDataSource(dataSource, circuitBreaker);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;  // 첫 커넥션 요청 전에는 풀이 아직 시작되지 않았다
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * 배치 후보 조회(스캔) 전용 라우팅 DataSource - 복제 지연이 허용 범위면 slave, 아니면 master로 보낸다.
+ * <p>
+ * 청크 트랜잭션이 쓰는 @Primary DataSource와 다른 객체이므로 트랜잭션에 묶인 master 커넥션을 공유하지 않고,
+ * 조회마다 선택된 풀에서 별도 커넥션을 얻는다. slave에서 읽은 후보는 약간 오래됐을 수 있으므로
+ * 쓰기 쪽은 반드시 {@code status = 'ACTIVE'} 같은 조건으로 다시 확인해야 한다.
+ */
+public class ReplicaScanDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicationLagMonitor replicationLagMonitor;
+    private final boolean replicaEnabled;
+
+    public ReplicaScanDataSource(ReplicationLagMonitor replicationLagMonitor, boolean replicaEnabled) {
+        this.replicationLagMonitor = replicationLagMonitor;
+        this.replicaEnabled = replicaEnabled;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return replicaEnabled && replicationLagMonitor.isReplicaUsable() ? "slave" : "master";
+    }
+}
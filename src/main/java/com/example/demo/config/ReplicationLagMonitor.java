@@ -0,0 +1,148 @@
+package com.example.demo.config;
+
+import com.example.demo.config.replica.Replica;
+import com.example.demo.config.replica.ReplicaSet;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * heartbeat 행으로 replica마다 복제 지연을 측정해 캐시한다.
+ * <p>
+ * 주기마다 master의 replication_heartbeat에 이 노드의 현재 시각(ms)을 쓰고, 각 replica에서 같은 행을 읽어
+ * 지금 시각과의 차이를 복제 지연으로 본다. 쓰는 시각과 비교하는 시각이 모두 이 JVM의 시계라 서버 간 시계 차이의
+ * 영향이 없고, 측정값은 실제 지연보다 최대 heartbeat 주기만큼 크다 (보수적).
+ * 라우팅은 여기서 갱신한 replica별 값만 읽으며, 조회 실패나 행이 없으면 무한대로 보고 master로 대체한다.
+ * <p>
+ * heartbeat를 쓰지 못했거나(master 장애 등) 측정이 lag-max-age-ms 안에 다시 오지 않으면(스케줄러 지연 등)
+ * 마지막 측정값을 믿지 않고 지연을 알 수 없는 것으로 본다.
+ */
+@Slf4j
+@Component
+public class ReplicationLagMonitor {
+
+    private static final long UNKNOWN = -1L;
+
+    private static final String HEARTBEAT_SQL =
+            "INSERT INTO replication_heartbeat (node_id, beat_millis) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE beat_millis = VALUES(beat_millis)";
+    private static final String READ_HEARTBEAT_SQL =
+            "SELECT beat_millis FROM replication_heartbeat WHERE node_id = ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM replication_heartbeat WHERE beat_millis < ?";
+
+    private final JdbcTemplate masterJdbcTemplate;
+    private final ReplicaSet replicaSet;
+    private final long maxLagSeconds;
+    private final long lagMaxAgeMillis;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+    private volatile boolean purged;
+    private volatile long lagSeconds = UNKNOWN;
+    private volatile boolean usable;
+    private volatile long usableUntilNanos = Long.MIN_VALUE;
+
+    // heartbeat는 스케줄러 풀로 쓴다 - 웹 요청이 master 풀을 채워도 지연 측정이 멈추지 않게
+    public ReplicationLagMonitor(@Qualifier("schedulerDataSource") DataSource schedulerDataSource,
+                                 ReplicaSet replicaSet,
+                                 @Value("${auction.replication.max-lag-seconds:5}") long maxLagSeconds,
+                                 @Value("${auction.replication.lag-max-age-ms:1500}") long lagMaxAgeMillis,
+                                 MeterRegistry meterRegistry) {
+        this.masterJdbcTemplate = new JdbcTemplate(schedulerDataSource);
+        this.replicaSet = replicaSet;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagMaxAgeMillis = lagMaxAgeMillis;
+        for (Replica replica : replicaSet.getReplicas()) {
+            Gauge.builder("auction.replication.lag", replica,
+                            r -> r.getLagMillis() == Long.MAX_VALUE ? UNKNOWN : r.getLagMillis() / 1000.0)
+                    .description("replica 복제 지연 (-1: 측정 불가)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 배치 후보 조회용 - 사용 가능한 모든 replica의 복제 지연이 max-lag-seconds 안인지
+     */
+    public boolean isReplicaUsable() {
+        return usable && System.nanoTime() - usableUntilNanos < 0;
+    }
+
+    /**
+     * 사용 가능한 replica 중 가장 큰 복제 지연 (측정 불가면 -1)
+     */
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.replication.heartbeat-interval-ms:500}",
+            scheduler = SchedulingConfig.INFRASTRUCTURE_SCHEDULER)
+    public void refresh() {
+        boolean heartbeatWritten = writeHeartbeat();
+
+        long worstMillis = UNKNOWN;
+        boolean anyAvailable = false;
+        for (Replica replica : replicaSet.getReplicas()) {
+            // 이번 heartbeat가 기록되지 않았으면 replica의 행은 지연을 말해 주지 않는다
+            long lagMillis = heartbeatWritten ? readLagMillis(replica) : Long.MAX_VALUE;
+            replica.updateLagMillis(lagMillis, lagMaxAgeMillis);
+            if (replica.isAvailable()) {
+                anyAvailable = true;
+                worstMillis = Math.max(worstMillis, lagMillis);
+            }
+        }
+
+        long current = anyAvailable && worstMillis != Long.MAX_VALUE ? TimeUnit.MILLISECONDS.toSeconds(worstMillis) : UNKNOWN;
+        boolean nowUsable = current != UNKNOWN && current <= maxLagSeconds;
+
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                log.info("slave 복제 지연 정상화: {}초, slave 조회 재개", current);
+            } else {
+                log.warn("slave 복제 지연 {}초 (허용 {}초), master로 조회를 대체합니다", current, maxLagSeconds);
+            }
+        }
+        lagSeconds = current;
+        usable = nowUsable;
+        usableUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lagMaxAgeMillis);
+    }
+
+    private boolean writeHeartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            if (!purged) {
+                // 재시작 등으로 남은 다른 노드 ID의 오래된 행 정리
+                masterJdbcTemplate.update(PURGE_SQL, now - TimeUnit.DAYS.toMillis(1));
+                purged = true;
+            }
+            masterJdbcTemplate.update(HEARTBEAT_SQL, nodeId, now);
+            return true;
+        } catch (Exception e) {
+            log.warn("heartbeat 기록 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private long readLagMillis(Replica replica) {
+        try {
+            List<Long> beats = new JdbcTemplate(replica.getDataSource())
+                    .queryForList(READ_HEARTBEAT_SQL, Long.class, nodeId);
+            if (beats.isEmpty()) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(0, System.currentTimeMillis() - beats.get(0));
+        } catch (Exception e) {
+            log.debug("replica heartbeat 조회 실패: {} - {}", replica.getName(), e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+}
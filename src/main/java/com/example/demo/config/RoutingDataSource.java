@@ -1,40 +1,73 @@
 package com.example.demo.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.example.demo.config.replica.ReplicaSet;
+import com.example.demo.config.replica.StalenessBudget;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 트랜잭션의 readOnly 여부로 master/slave를 고르는 DataSource.
+ * readOnly여도 허용 지연({@link StalenessBudget}) 안에 있는 replica가 없으면 master로 보낸다.
+ * <p>
+ * 물리 커넥션을 얻을 때마다 실행되는 경로라 로그나 스택 조회를 하지 않고,
+ * 라우팅 결과와 커넥션 획득 시간만 {@link RoutingDiagnostics}에 기록한다.
+ */
 public class RoutingDataSource extends AbstractRoutingDataSource {
 
-    private static final Logger logger = LoggerFactory.getLogger(RoutingDataSource.class);
+    private final RoutingDiagnostics routingDiagnostics;
+    private final ReplicaSet replicaSet;
+    private final long defaultMaxStalenessMillis;
+
+    public RoutingDataSource(RoutingDiagnostics routingDiagnostics, ReplicaSet replicaSet,
+                             long defaultMaxStalenessMillis) {
+        this.routingDiagnostics = routingDiagnostics;
+        this.replicaSet = replicaSet;
+        this.defaultMaxStalenessMillis = defaultMaxStalenessMillis;
+    }
 
     @Override
     protected Object determineCurrentLookupKey() {
-        boolean isReadOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
-        String dataSourceType = isReadOnly ? "slave" : "master";
-
-        // 트랜잭션 상태 로깅
-        boolean isTransactionActive = TransactionSynchronizationManager.isActualTransactionActive();
-        String currentTransactionName = TransactionSynchronizationManager.getCurrentTransactionName();
-        logger.info("🔀 [{}] 데이터소스 라우팅 결정:", Thread.currentThread().getName());
-        logger.info("   → 대상 DB: {} (읽기전용={}, 트랜잭션활성={}, 트랜잭션명={})",
-                    dataSourceType, isReadOnly, isTransactionActive, currentTransactionName);
-        logger.info("   → 호출 위치: {}", getCurrentMethodInfo());
-
-        return dataSourceType;
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return "master";
+        }
+        // 복제 지연은 ReplicationLagMonitor가 갱신한 캐시 값만 읽는다
+        return replicaSet.hasReplicaWithin(StalenessBudget.current(defaultMaxStalenessMillis)) ? "slave" : "master";
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String route = (String) determineCurrentLookupKey();
+        long start = System.nanoTime();
+        try {
+            return targetOf(route).getConnection();
+        } finally {
+            routingDiagnostics.record(route, System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String route = (String) determineCurrentLookupKey();
+        long start = System.nanoTime();
+        try {
+            return targetOf(route).getConnection(username, password);
+        } finally {
+            routingDiagnostics.record(route, System.nanoTime() - start);
+        }
     }
 
-    private String getCurrentMethodInfo() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        // 현재 메소드에서 호출한 서비스 메소드 찾기
-        for (StackTraceElement element : stackTrace) {
-            String className = element.getClassName();
-            if (className.contains("com.example.demo.service") ||
-                className.contains("com.example.demo.controller")) {
-                return element.getClassName() + "." + element.getMethodName() + ":" + element.getLineNumber();
-            }
+    // 복제 지연 상태는 호출 사이에 바뀔 수 있으므로 키를 다시 계산하지 않고, 기록한 route의 DataSource를 그대로 쓴다
+    private DataSource targetOf(String route) {
+        DataSource target = getResolvedDataSources().get(route);
+        if (target == null) {
+            target = getResolvedDefaultDataSource();
+        }
+        if (target == null) {
+            throw new IllegalStateException("라우팅 대상 DataSource가 없습니다: " + route);
         }
-        return "알 수 없음";
+        return target;
     }
 }
@@ -0,0 +1,122 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * master/slave 라우팅 진단 정보.
+ * <p>
+ * 모든 커넥션 획득마다 경로(route)별 카운터와 획득 시간 히스토그램만 갱신하고,
+ * 호출 위치(서비스 메서드)는 N번에 한 번만 StackWalker로 찾아 집계한다.
+ * 집계 결과는 {@code /actuator/routing}과 {@code auction.datasource.*} 메트릭으로 조회한다.
+ */
+@Component
+public class RoutingDiagnostics {
+
+    static final List<String> ROUTES = List.of("master", "slave");
+
+    private static final String APP_PACKAGE = "com.example.demo.";
+    private static final Set<String> ROUTING_CLASSES = Set.of(
+            RoutingDataSource.class.getName(), RoutingDiagnostics.class.getName());
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+    private static final int MAX_CALL_SITES = 500;
+
+    private final StackWalker stackWalker = StackWalker.getInstance();
+    private final int sampleRate;
+    private final Map<String, Counter> routeCounts = new ConcurrentHashMap<>();
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final Map<CallSite, LongAdder> callSiteSamples = new ConcurrentHashMap<>();
+
+    public RoutingDiagnostics(MeterRegistry meterRegistry,
+                              @Value("${auction.datasource.routing.call-site-sample-rate:100}") int sampleRate) {
+        this.sampleRate = sampleRate;
+        for (String route : ROUTES) {
+            routeCounts.put(route, Counter.builder("auction.datasource.route")
+                    .description("라우팅된 물리 커넥션 획득 수")
+                    .tag("route", route)
+                    .register(meterRegistry));
+            acquireTimers.put(route, Timer.builder("auction.datasource.acquire")
+                    .description("풀에서 커넥션을 얻기까지 걸린 시간")
+                    .tag("route", route)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 커넥션 획득 한 번을 기록한다 - sampleRate번에 한 번은 호출 위치도 함께 집계
+     */
+    public void record(String route, long acquireNanos) {
+        routeCounts.get(route).increment();
+        acquireTimers.get(route).record(acquireNanos, TimeUnit.NANOSECONDS);
+
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            sampleCallSite(route);
+        }
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public Timer getAcquireTimer(String route) {
+        return acquireTimers.get(route);
+    }
+
+    /**
+     * 샘플 수가 많은 순서의 호출 위치 (추정 호출 수 = 샘플 수 x sampleRate)
+     */
+    public List<CallSiteCount> topCallSites(int limit) {
+        return callSiteSamples.entrySet().stream()
+                .map(entry -> new CallSiteCount(entry.getKey().route(), entry.getKey().site(),
+                        entry.getValue().sum(), entry.getValue().sum() * sampleRate))
+                .sorted(Comparator.comparingLong(CallSiteCount::samples).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void resetCallSites() {
+        callSiteSamples.clear();
+    }
+
+    private void sampleCallSite(String route) {
+        CallSite callSite = new CallSite(route, findCallSite());
+        LongAdder samples = callSiteSamples.get(callSite);
+        if (samples == null) {
+            // 호출 위치 종류가 한도를 넘으면 더 이상 새 위치를 추가하지 않는다 (기존 위치는 계속 집계)
+            if (callSiteSamples.size() >= MAX_CALL_SITES) {
+                return;
+            }
+            samples = callSiteSamples.computeIfAbsent(callSite, key -> new LongAdder());
+        }
+        samples.increment();
+    }
+
+    private String findCallSite() {
+        return stackWalker.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && !frame.getClassName().contains("$$")
+                        && !ROUTING_CLASSES.contains(frame.getClassName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse(UNKNOWN_CALL_SITE));
+    }
+
+    private record CallSite(String route, String site) {
+    }
+
+    public record CallSiteCount(String route, String site, long samples, long estimatedCalls) {
+    }
+}
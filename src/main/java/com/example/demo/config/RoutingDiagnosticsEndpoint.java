@@ -0,0 +1,59 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * master/slave 라우팅 진단 엔드포인트 - GET /actuator/routing 으로 경로별 커넥션 수, 획득 시간,
+ * 샘플링된 호출 위치 상위 목록을 조회하고 DELETE로 호출 위치 집계를 초기화한다
+ */
+@Component
+@Endpoint(id = "routing")
+@RequiredArgsConstructor
+public class RoutingDiagnosticsEndpoint {
+
+    private static final int TOP_CALL_SITES = 20;
+
+    private final RoutingDiagnostics routingDiagnostics;
+
+    @ReadOperation
+    public Map<String, Object> routing() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        for (String route : RoutingDiagnostics.ROUTES) {
+            routes.put(route, describe(routingDiagnostics.getAcquireTimer(route)));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("routes", routes);
+        result.put("callSiteSampleRate", routingDiagnostics.getSampleRate());
+        result.put("callSites", routingDiagnostics.topCallSites(TOP_CALL_SITES));
+        return result;
+    }
+
+    @DeleteOperation
+    public void resetCallSites() {
+        routingDiagnostics.resetCallSites();
+    }
+
+    private Map<String, Object> describe(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> route = new LinkedHashMap<>();
+        route.put("connections", snapshot.count());
+        route.put("acquireMeanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+        route.put("acquireMaxMs", snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            route.put("acquireP" + Math.round(percentile.percentile() * 100) + "Ms",
+                    percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return route;
+    }
+}
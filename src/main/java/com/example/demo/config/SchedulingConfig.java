@@ -0,0 +1,62 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄러(배치, 타이밍 휠, outbox relay 등) 활성화 - 벤치마크처럼 Job을 직접 실행할 때는
+ * auction.scheduling.enabled=false로 끈다
+ * <p>
+ * 분 단위 배치는 Job이 끝날 때까지 스케줄러 스레드를 잡고 동기로 실행되므로, 초 단위 작업이 그 뒤에 밀리지 않도록
+ * 타이밍 휠의 매초 tick은 전용 스케줄러(wheelTaskScheduler)에서 실행한다.
+ * <ul>
+ *     <li>taskScheduler (기본) - 분 단위 배치 Job과 그 밖의 주기 작업</li>
+ *     <li>wheelTaskScheduler - 타이밍 휠의 매초 tick 전용 스레드 하나</li>
+ *     <li>infrastructureTaskScheduler - 장애 전환 판단, outbox relay, 복제 지연 heartbeat, replica 상태 확인 등 배치 뒤에 밀리면 안 되는 짧은 주기 작업</li>
+ * </ul>
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "auction.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+
+    public static final String WHEEL_SCHEDULER = "wheelTaskScheduler";
+    public static final String INFRASTRUCTURE_SCHEDULER = "infrastructureTaskScheduler";
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 이름을 지정하지 않은 @Scheduled가 쓰는 기본 스케줄러 (빈 이름 taskScheduler로 찾는다) - 동시에 실행될 수 있는 배치 Job 수만큼
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${auction.scheduling.batch-pool-size:3}") int poolSize) {
+        return scheduler("batch-scheduling-", poolSize);
+    }
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskScheduler wheelTaskScheduler() {
+        return scheduler("wheel-scheduling-", 1);
+    }
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskScheduler infrastructureTaskScheduler(
+            @Value("${auction.scheduling.infrastructure-pool-size:6}") int poolSize) {
+        return scheduler("infra-scheduling-", poolSize);
+    }
+
+    private ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        if (virtualThreads) {
+            scheduler.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        }
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 carrier 스레드에 고정(pinning)되는 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 감지한다.
+ * <p>
+ * synchronized 안에서 I/O를 기다리면 carrier 스레드까지 함께 막혀 가상 스레드를 써도 동시성이 carrier 수로 제한된다.
+ * 스택에 MySQL 드라이버가 있으면 jdbc, Hikari가 있으면 hikari, 그 외는 other로 분류해 메트릭으로 남기고,
+ * 같은 위치는 처음 한 번만 스택과 함께 경고 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> SOURCES = List.of("jdbc", "hikari", "other");
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Map<String, Counter> pinnedCounts = new ConcurrentHashMap<>();
+    private final Map<String, Timer> pinnedDurations = new ConcurrentHashMap<>();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${auction.virtual-threads.pinned-threshold-ms:20}") long thresholdMillis,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        for (String source : SOURCES) {
+            pinnedCounts.put(source, Counter.builder("auction.virtual.pinned")
+                    .description("carrier 스레드에 고정된 채로 대기한 횟수")
+                    .tag("source", source)
+                    .register(meterRegistry));
+            pinnedDurations.put(source, Timer.builder("auction.virtual.pinned.duration")
+                    .description("carrier 스레드에 고정된 시간")
+                    .tag("source", source)
+                    .register(meterRegistry));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작: {}ms 이상", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String source = classify(frames);
+        pinnedCounts.get(source).increment();
+        pinnedDurations.get(source).record(event.getDuration());
+
+        String site = frames.isEmpty() ? "unknown" : describe(frames.get(0));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("가상 스레드 pinning 감지 [{}] {}ms, 위치:\n{}",
+                    source, event.getDuration().toMillis(), formatFrames(frames));
+        }
+    }
+
+    private static String classify(List<RecordedFrame> frames) {
+        boolean hikari = false;
+        for (RecordedFrame frame : frames) {
+            String type = typeName(frame);
+            if (type.startsWith("com.mysql.")) {
+                return "jdbc";
+            }
+            hikari |= type.startsWith("com.zaxxer.hikari.");
+        }
+        return hikari ? "hikari" : "other";
+    }
+
+    private static String typeName(RecordedFrame frame) {
+        return frame.getMethod() == null ? "" : frame.getMethod().getType().getName();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return typeName(frame) + "." + (frame.getMethod() == null ? "?" : frame.getMethod().getName())
+                + ":" + frame.getLineNumber();
+    }
+
+    private static String formatFrames(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> builder.append("    at ").append(describe(frame)).append('\n'));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.config.failover;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource 하나의 커넥션 획득을 보호하는 circuit breaker.
+ * <p>
+ * CLOSED에서 연속 실패가 failureThreshold에 닿으면 OPEN이 되어 openDuration 동안 커넥션 요청을 즉시 거절한다.
+ * openDuration이 지나면 HALF_OPEN으로 요청 하나만 통과시켜 보고(probe), 성공하면 CLOSED, 실패하면 다시 OPEN.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMillis) {
+        this(name, failureThreshold, openDurationMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openDurationMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.nanoClock = nanoClock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 요청을 보내도 되는지 - OPEN이면 false, openDuration이 지났으면 probe 하나만 true
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+            return false;
+        }
+        // OPEN 시간이 지났거나 HALF_OPEN - 동시에 하나의 probe만 허용
+        if (probeInFlight.compareAndSet(false, true)) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            log.info("circuit CLOSED: {} (probe 성공, 정상 복귀)", name);
+            state = State.CLOSED;
+        }
+        probeInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open("probe 실패");
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open("연속 실패 " + failureThreshold + "회");
+        }
+        probeInFlight.set(false);
+    }
+
+    private void open(String reason) {
+        openedAtNanos = nanoClock.getAsLong();
+        state = State.OPEN;
+        log.warn("circuit OPEN: {} ({}), {}ms 동안 즉시 실패 처리",
+                name, reason, TimeUnit.NANOSECONDS.toMillis(openDurationNanos));
+    }
+}
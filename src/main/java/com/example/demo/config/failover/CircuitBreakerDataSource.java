@@ -0,0 +1,47 @@
+package com.example.demo.config.failover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 획득을 {@link CircuitBreaker}로 감싼 DataSource - circuit이 열려 있으면 풀의 connectionTimeout을
+ * 기다리지 않고 즉시 {@link SQLTransientConnectionException}을 던진다. 쿼리 실패가 아닌 커넥션 획득 실패만 센다.
+ */
+public class CircuitBreakerDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerDataSource(DataSource targetDataSource, CircuitBreaker circuitBreaker) {
+        super(targetDataSource);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new SQLTransientConnectionException("DataSource 사용 불가 (circuit open): " + circuitBreaker.getName());
+        }
+        try {
+            Connection connection = obtainTargetDataSource().getConnection();
+            circuitBreaker.onSuccess();
+            return connection;
+        } catch (SQLException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.config.failover;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 쓰기 대상 DataSource - 평소에는 master, 승격이 일어나면 승격된 replica로 커넥션을 위임한다.
+ * <p>
+ * 쓰기 대상 전환과 차단(fencing)은 {@link FailoverManager}가 결정하며, 차단 중에는 어느 노드로도 쓰지 않고 즉시 실패한다.
+ */
+@Slf4j
+public class FailoverDataSource extends AbstractDataSource {
+
+    private final String primaryName;
+    private final Map<String, DataSource> candidates;
+    private volatile String writeTarget;
+    private volatile String fencedReason;
+
+    /**
+     * @param candidates 쓰기 대상 후보 (primaryName 포함), 모두 {@link CircuitBreakerDataSource}로 감싼 DataSource
+     */
+    public FailoverDataSource(String primaryName, Map<String, DataSource> candidates) {
+        this.primaryName = primaryName;
+        this.candidates = Collections.unmodifiableMap(new LinkedHashMap<>(candidates));
+        this.writeTarget = primaryName;
+    }
+
+    public String getPrimaryName() {
+        return primaryName;
+    }
+
+    public Map<String, DataSource> getCandidates() {
+        return candidates;
+    }
+
+    public String getWriteTarget() {
+        return writeTarget;
+    }
+
+    public boolean isFenced() {
+        return fencedReason != null;
+    }
+
+    void switchTo(String target) {
+        if (!candidates.containsKey(target)) {
+            throw new IllegalArgumentException("쓰기 대상 후보가 아닙니다: " + target);
+        }
+        writeTarget = target;
+    }
+
+    void fence(String reason) {
+        fencedReason = reason;
+    }
+
+    void unfence() {
+        fencedReason = null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return currentTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return currentTarget().getConnection(username, password);
+    }
+
+    private DataSource currentTarget() throws SQLException {
+        String reason = fencedReason;
+        if (reason != null) {
+            throw new SQLTransientConnectionException("쓰기 차단 중: " + reason);
+        }
+        return candidates.get(writeTarget);
+    }
+}
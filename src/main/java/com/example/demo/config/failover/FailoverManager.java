@@ -0,0 +1,105 @@
+package com.example.demo.config.failover;
+
+import com.example.demo.config.SchedulingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 대상 승격/복귀 결정.
+ * <p>
+ * 주기마다 후보 노드(master + 승격 후보 replica)의 {@code read_only}, {@code super_read_only}를 확인해
+ * 쓰기 가능한 노드가 정확히 하나일 때만 그 노드로 쓴다. 승격 자체(복제 중단, read_only 해제)는 DB 운영 쪽에서 하고,
+ * 애플리케이션은 그 결과를 따라가기만 한다.
+ * <ul>
+ *   <li>master 장애: master circuit이 열려 확인이 즉시 실패하고, read_only가 풀린 replica가 있으면 그쪽으로 전환</li>
+ *   <li>복귀(failback): 열린 circuit은 OPEN 시간이 지나면 이 확인이 probe가 되며, 원래 master가 다시 쓰기 가능하고
+ *       승격했던 replica가 read_only로 돌아갔을 때 master로 되돌린다</li>
+ *   <li>쓰기 가능한 노드가 둘 이상이면 split brain으로 보고 쓰기를 차단(fencing)한다</li>
+ * </ul>
+ * 확인 쿼리도 circuit breaker를 거치므로 죽은 노드 때문에 이 작업이 오래 멈추지 않는다.
+ * <p>
+ * 판단은 웹 요청용 masterDataSource로 하고, 같은 노드 이름을 후보로 가진 batch/scheduler 풀도 함께 전환/차단한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.datasource.failover.enabled", havingValue = "true")
+public class FailoverManager {
+
+    private static final String READ_ONLY_SQL = "SELECT @@GLOBAL.read_only + @@GLOBAL.super_read_only";
+
+    private final FailoverDataSource failoverDataSource;
+    private final List<FailoverDataSource> writeDataSources;
+    private final Counter failovers;
+
+    public FailoverManager(@Qualifier("masterDataSource") FailoverDataSource failoverDataSource,
+                           @Qualifier("batchDataSource") FailoverDataSource batchDataSource,
+                           @Qualifier("schedulerDataSource") FailoverDataSource schedulerDataSource,
+                           MeterRegistry meterRegistry) {
+        this.failoverDataSource = failoverDataSource;
+        this.writeDataSources = List.of(failoverDataSource, batchDataSource, schedulerDataSource);
+        this.failovers = Counter.builder("auction.datasource.failovers")
+                .description("쓰기 대상이 바뀐 횟수")
+                .register(meterRegistry);
+        Gauge.builder("auction.datasource.write.fenced", failoverDataSource, ds -> ds.isFenced() ? 1 : 0)
+                .description("split brain 의심으로 쓰기를 차단 중인지")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auction.datasource.failover.check-interval-ms:1000}",
+            scheduler = SchedulingConfig.INFRASTRUCTURE_SCHEDULER)
+    public void evaluate() {
+        List<String> writable = new ArrayList<>();
+        for (Map.Entry<String, DataSource> candidate : failoverDataSource.getCandidates().entrySet()) {
+            if (isWritable(candidate.getKey(), candidate.getValue())) {
+                writable.add(candidate.getKey());
+            }
+        }
+
+        if (writable.size() > 1) {
+            if (!failoverDataSource.isFenced()) {
+                log.error("쓰기 가능한 노드가 여럿입니다 {} - split brain 의심, 쓰기를 차단합니다", writable);
+            }
+            String reason = "쓰기 가능한 노드 " + writable;
+            writeDataSources.forEach(dataSource -> dataSource.fence(reason));
+            return;
+        }
+        if (writable.isEmpty()) {
+            // 쓸 수 있는 노드가 없으면 현재 대상을 유지 (circuit breaker가 즉시 실패 처리)
+            return;
+        }
+
+        String target = writable.get(0);
+        if (failoverDataSource.isFenced()) {
+            log.info("쓰기 차단 해제: 쓰기 가능한 노드 {}", target);
+            writeDataSources.forEach(FailoverDataSource::unfence);
+        }
+        String current = failoverDataSource.getWriteTarget();
+        if (!target.equals(current)) {
+            log.warn("쓰기 대상 전환: {} -> {}{}", current, target,
+                    target.equals(failoverDataSource.getPrimaryName()) ? " (failback)" : " (승격)");
+            writeDataSources.forEach(dataSource -> dataSource.switchTo(target));
+            failovers.increment();
+        }
+    }
+
+    private boolean isWritable(String name, DataSource dataSource) {
+        try {
+            Integer readOnly = new JdbcTemplate(dataSource).queryForObject(READ_ONLY_SQL, Integer.class);
+            return readOnly != null && readOnly == 0;
+        } catch (Exception e) {
+            log.debug("쓰기 가능 여부 확인 실패: {} - {}", name, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.config.replica;
+
+import java.util.regex.Pattern;
+
+/**
+ * read-your-writes 토큰 - 쓰기 응답으로 받은 GTID 집합을 다음 요청 헤더로 보내면, 그 요청의 읽기는
+ * 해당 GTID까지 적용한 replica에서만 (짧게 기다린 뒤) 읽고 아니면 master에서 읽는다.
+ */
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final int MAX_LENGTH = 4096;
+    // uuid:1-10,uuid:tag:1-5 형태만 허용
+    private static final Pattern GTID_SET = Pattern.compile("[0-9A-Za-z_:,\\-]+");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConsistencyToken() {
+    }
+
+    /**
+     * 현재 요청이 요구하는 GTID 집합 (없으면 null)
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return 형식이 맞아 설정했으면 true (형식이 틀린 토큰은 무시)
+     */
+    static boolean set(String gtidSet) {
+        if (gtidSet == null || gtidSet.isBlank() || gtidSet.length() > MAX_LENGTH
+                || !GTID_SET.matcher(gtidSet).matches()) {
+            return false;
+        }
+        CURRENT.set(gtidSet);
+        return true;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * gtid_executed 값은 uuid 사이에 줄바꿈이 들어가므로 헤더로 보낼 수 있게 공백을 제거한다
+     */
+    static String normalize(String gtidExecuted) {
+        return gtidExecuted == null ? null : gtidExecuted.replaceAll("\\s", "");
+    }
+}
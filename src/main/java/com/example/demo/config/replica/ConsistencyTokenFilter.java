@@ -0,0 +1,32 @@
+package com.example.demo.config.replica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 헤더의 {@link ConsistencyToken}을 요청 처리 동안 현재 스레드에 설정한다
+ */
+@Slf4j
+@Component
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = request.getHeader(ConsistencyToken.HEADER);
+        if (token != null && !ConsistencyToken.set(token)) {
+            log.debug("형식이 맞지 않는 일관성 토큰 무시: {}", token);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConsistencyToken.clear();
+        }
+    }
+}
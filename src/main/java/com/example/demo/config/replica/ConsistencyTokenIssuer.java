@@ -0,0 +1,38 @@
+package com.example.demo.config.replica;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쓰기 트랜잭션 커밋 후 master의 실행된 GTID 집합을 토큰으로 발급한다.
+ * <p>
+ * 커밋이 끝난 뒤 조회하므로 방금 커밋한 트랜잭션의 GTID가 반드시 포함된다 (다른 트랜잭션 것도 포함되는 상위 집합이라
+ * replica가 조금 더 기다릴 수는 있어도 덜 기다리지는 않는다).
+ */
+@Slf4j
+@Component
+public class ConsistencyTokenIssuer {
+
+    private static final String GTID_EXECUTED_SQL = "SELECT @@GLOBAL.gtid_executed";
+
+    private final JdbcTemplate masterJdbcTemplate;
+
+    public ConsistencyTokenIssuer(@Qualifier("masterDataSource") DataSource masterDataSource) {
+        this.masterJdbcTemplate = new JdbcTemplate(masterDataSource);
+    }
+
+    /**
+     * @return GTID 집합, 조회할 수 없으면 null (토큰 없이 응답 - 다음 읽기는 일반 라우팅)
+     */
+    public String issue() {
+        try {
+            return ConsistencyToken.normalize(masterJdbcTemplate.queryForObject(GTID_EXECUTED_SQL, String.class));
+        } catch (Exception e) {
+            log.warn("GTID 조회 실패, 일관성 토큰 없이 응답합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+}
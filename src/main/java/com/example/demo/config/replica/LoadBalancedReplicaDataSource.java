@@ -0,0 +1,123 @@
+package com.example.demo.config.replica;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 커넥션을 얻을 때마다 {@link ReplicaLoadBalancer}로 replica를 골라 위임하는 읽기 DataSource.
+ * <p>
+ * 현재 스레드의 허용 지연({@link StalenessBudget}) 안에 있는 replica만 고른다.
+ * 고른 replica에서 커넥션을 얻지 못하면 실패로 기록하고 다른 replica를 시도하며, 사용할 replica가 없으면
+ * fallback(master)에서 얻는다. 반환한 커넥션이 닫힐 때 사용 시간을 replica의 지연 EWMA에 반영한다.
+ * <p>
+ * 요청에 {@link ConsistencyToken}이 있으면 고른 replica에서 {@code WAIT_FOR_EXECUTED_GTID_SET}으로 해당 GTID가
+ * 적용될 때까지 짧게 기다리고, 시간 안에 적용되지 않으면 master에서 읽는다 (read-your-writes).
+ */
+@Slf4j
+public class LoadBalancedReplicaDataSource extends AbstractDataSource {
+
+    private final ReplicaLoadBalancer loadBalancer;
+    private final ReplicaSet replicaSet;
+    private final DataSource fallbackDataSource;
+    private final long defaultMaxStalenessMillis;
+    private final long gtidWaitTimeoutMillis;
+
+    public LoadBalancedReplicaDataSource(ReplicaLoadBalancer loadBalancer, ReplicaSet replicaSet,
+                                         DataSource fallbackDataSource, long defaultMaxStalenessMillis,
+                                         long gtidWaitTimeoutMillis) {
+        this.loadBalancer = loadBalancer;
+        this.replicaSet = replicaSet;
+        this.fallbackDataSource = fallbackDataSource;
+        this.defaultMaxStalenessMillis = defaultMaxStalenessMillis;
+        this.gtidWaitTimeoutMillis = gtidWaitTimeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionOpener opener) throws SQLException {
+        long maxLagMillis = StalenessBudget.current(defaultMaxStalenessMillis);
+        List<Replica> tried = new ArrayList<>();
+        Replica replica;
+        while ((replica = loadBalancer.choose(tried, maxLagMillis)) != null) {
+            replica.acquired();
+            long start = System.nanoTime();
+            Connection connection;
+            try {
+                connection = track(opener.open(replica.getDataSource()), replica, start);
+            } catch (SQLException e) {
+                replica.acquireFailed();
+                replicaSet.markFailure(replica, e.getMessage());
+                tried.add(replica);
+                continue;
+            }
+
+            String requiredGtidSet = ConsistencyToken.current();
+            if (requiredGtidSet == null || waitForGtidSet(connection, replica, requiredGtidSet)) {
+                return connection;
+            }
+            // 다른 replica도 비슷하게 밀려 있을 가능성이 높으므로 다시 기다리지 않고 master에서 읽는다
+            connection.close();
+            log.debug("replica {}에 GTID 미적용 ({}ms 대기), master에서 조회", replica.getName(), gtidWaitTimeoutMillis);
+            return opener.open(fallbackDataSource);
+        }
+
+        log.debug("허용 지연 {}ms 안의 replica 없음, master에서 조회", maxLagMillis);
+        return opener.open(fallbackDataSource);
+    }
+
+    private boolean waitForGtidSet(Connection connection, Replica replica, String gtidSet) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT WAIT_FOR_EXECUTED_GTID_SET(?, ?)")) {
+            statement.setString(1, gtidSet);
+            statement.setBigDecimal(2, BigDecimal.valueOf(gtidWaitTimeoutMillis, 3));  // 초 단위 (소수 가능)
+            try (ResultSet resultSet = statement.executeQuery()) {
+                boolean applied = resultSet.next() && resultSet.getInt(1) == 0;
+                replicaSet.recordGtidWait(applied ? "applied" : "timeout");
+                return applied;
+            }
+        } catch (SQLException e) {
+            log.debug("GTID 대기 실패: {} - {}", replica.getName(), e.getMessage());
+            replicaSet.recordGtidWait("error");
+            return false;
+        }
+    }
+
+    private Connection track(Connection connection, Replica replica, long start) {
+        boolean[] released = {false};
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && !released[0]) {
+                        released[0] = true;
+                        replica.released(System.nanoTime() - start);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    // 계정 지정 여부와 관계없이 같은 replica 선택/실패 처리를 거치도록 커넥션을 여는 방법만 바꿔 끼운다
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.config.replica;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 읽기 전용 트랜잭션이 허용하는 최대 복제 지연.
+ * <p>
+ * 복제 지연이 이보다 작은 replica에서만 읽고, 그런 replica가 없으면 master에서 읽는다.
+ * 지정하지 않은 읽기는 auction.replication.default-max-staleness-ms를 따른다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadStaleness {
+
+    long maxLagMillis();
+}
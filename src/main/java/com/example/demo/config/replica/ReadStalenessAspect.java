@@ -0,0 +1,37 @@
+package com.example.demo.config.replica;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ReadStaleness}의 허용 지연을 메서드 실행 동안 현재 스레드에 설정한다.
+ * 트랜잭션보다 바깥에서 실행되어야 트랜잭션 안의 커넥션 획득(라우팅)이 이 값을 본다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadStalenessAspect {
+
+    @Around("@annotation(readStaleness)")
+    public Object onMethod(ProceedingJoinPoint joinPoint, ReadStaleness readStaleness) throws Throwable {
+        return proceedWithin(joinPoint, readStaleness);
+    }
+
+    @Around("@within(readStaleness) && !@annotation(com.example.demo.config.replica.ReadStaleness)")
+    public Object onType(ProceedingJoinPoint joinPoint, ReadStaleness readStaleness) throws Throwable {
+        return proceedWithin(joinPoint, readStaleness);
+    }
+
+    private Object proceedWithin(ProceedingJoinPoint joinPoint, ReadStaleness readStaleness) throws Throwable {
+        long previous = StalenessBudget.set(readStaleness.maxLagMillis());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            StalenessBudget.restore(previous);
+        }
+    }
+}
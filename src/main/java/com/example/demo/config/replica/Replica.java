@@ -0,0 +1,142 @@
+package com.example.demo.config.replica;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+
+/**
+ * 읽기 replica 하나와 부하 분산에 쓰는 상태 (사용 중인 커넥션 수, 지연 EWMA, 제외 여부, warm-up, 복제 지연).
+ */
+public class Replica {
+
+    private static final double MIN_WARMUP_FACTOR = 0.1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final int weight;
+    private final double ewmaAlpha;
+    private final long warmupNanos;
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLong ewmaLatencyBits = new AtomicLong(Double.doubleToLongBits(0));
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger consecutiveSuccesses = new AtomicInteger();
+    private volatile boolean available = true;
+    private volatile long lagMillis = Long.MAX_VALUE;  // heartbeat로 측정, 측정 전이나 실패 시 무한대
+    private volatile long lagExpiresAtNanos = Long.MIN_VALUE;
+    private volatile long restoredAtNanos = Long.MIN_VALUE;
+
+    public Replica(String name, DataSource dataSource, int weight, double ewmaAlpha, long warmupSeconds) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.weight = Math.max(weight, 1);
+        this.ewmaAlpha = ewmaAlpha;
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * 마지막으로 측정한 복제 지연 - 측정한 지 유효 기간이 지났으면 알 수 없음(무한대)
+     */
+    public long getLagMillis() {
+        if (System.nanoTime() - lagExpiresAtNanos >= 0) {
+            return Long.MAX_VALUE;
+        }
+        return lagMillis;
+    }
+
+    /**
+     * @param validForMillis 이 값을 믿을 기간 - 다음 측정이 이 안에 오지 않으면 지연을 알 수 없는 것으로 본다
+     */
+    public void updateLagMillis(long lagMillis, long validForMillis) {
+        this.lagMillis = lagMillis;
+        this.lagExpiresAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(validForMillis);
+    }
+
+    /**
+     * 제외되지 않았고 복제 지연이 허용 범위 안인지
+     */
+    public boolean isUsableWithin(long maxLagMillis) {
+        return available && getLagMillis() <= maxLagMillis;
+    }
+
+    public int getOutstanding() {
+        return outstanding.get();
+    }
+
+    public double getEwmaLatencyMillis() {
+        return Double.longBitsToDouble(ewmaLatencyBits.get());
+    }
+
+    /**
+     * 복귀 직후에는 가중치를 낮췄다가 warm-up 시간 동안 선형으로 올린다 (버퍼 풀이 식은 replica에 부하가 몰리지 않도록)
+     */
+    public double effectiveWeight(long nowNanos) {
+        long sinceRestored = nowNanos - restoredAtNanos;
+        if (restoredAtNanos == Long.MIN_VALUE || warmupNanos <= 0 || sinceRestored >= warmupNanos) {
+            return weight;
+        }
+        double factor = Math.max(MIN_WARMUP_FACTOR, (double) sinceRestored / warmupNanos);
+        return weight * factor;
+    }
+
+    void acquired() {
+        outstanding.incrementAndGet();
+    }
+
+    void released(long elapsedNanos) {
+        outstanding.decrementAndGet();
+        double sample = elapsedNanos / 1_000_000.0;
+        ewmaLatencyBits.updateAndGet(bits -> {
+            double previous = Double.longBitsToDouble(bits);
+            double next = previous == 0 ? sample : previous + ewmaAlpha * (sample - previous);
+            return Double.doubleToLongBits(next);
+        });
+    }
+
+    void acquireFailed() {
+        outstanding.decrementAndGet();
+    }
+
+    /**
+     * @return 이번 실패로 제외되었으면 true
+     */
+    boolean recordFailure(int failureThreshold) {
+        consecutiveSuccesses.set(0);
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && available) {
+            available = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return 이번 성공으로 복귀했으면 true
+     */
+    boolean recordSuccess(int recoveryThreshold, long nowNanos) {
+        consecutiveFailures.set(0);
+        if (available) {
+            return false;
+        }
+        if (consecutiveSuccesses.incrementAndGet() >= recoveryThreshold) {
+            consecutiveSuccesses.set(0);
+            restoredAtNanos = nowNanos;
+            ewmaLatencyBits.set(Double.doubleToLongBits(0));
+            available = true;
+            return true;
+        }
+        return false;
+    }
+}
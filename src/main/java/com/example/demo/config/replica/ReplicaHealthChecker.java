@@ -0,0 +1,39 @@
+package com.example.demo.config.replica;
+
+import com.example.demo.config.AuctionDataSourceProperties;
+import com.example.demo.config.SchedulingConfig;
+import java.sql.Connection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * replica마다 주기적으로 커넥션 유효성을 확인해 연속 실패하면 제외하고, 제외된 replica가 연속 성공하면 복귀시킨다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private final ReplicaSet replicaSet;
+    private final AuctionDataSourceProperties properties;
+
+    @Scheduled(fixedDelayString = "${auction.datasource.health.check-interval-ms:2000}",
+            scheduler = SchedulingConfig.INFRASTRUCTURE_SCHEDULER)
+    public void check() {
+        int timeoutSeconds = properties.getHealth().getValidationTimeoutSeconds();
+        for (Replica replica : replicaSet.getReplicas()) {
+            try (Connection connection = replica.getDataSource().getConnection()) {
+                if (connection.isValid(timeoutSeconds)) {
+                    replicaSet.markSuccess(replica);
+                } else {
+                    replicaSet.markFailure(replica, "유효성 검사 실패");
+                }
+            } catch (Exception e) {
+                log.debug("replica 헬스 체크 실패: {} - {}", replica.getName(), e.getMessage());
+                replicaSet.markFailure(replica, e.getMessage());
+            }
+        }
+    }
+}
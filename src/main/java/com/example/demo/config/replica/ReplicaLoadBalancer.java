@@ -0,0 +1,81 @@
+package com.example.demo.config.replica;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용 가능하고 복제 지연이 허용 범위 안인 replica 중 하나를 전략에 따라 고른다.
+ * 그런 replica가 없으면 null (호출자가 master로 대체).
+ */
+public class ReplicaLoadBalancer {
+
+    private final ReplicaSet replicaSet;
+    private final ReplicaLoadBalancingStrategy strategy;
+
+    public ReplicaLoadBalancer(ReplicaSet replicaSet, ReplicaLoadBalancingStrategy strategy) {
+        this.replicaSet = replicaSet;
+        this.strategy = strategy;
+    }
+
+    public ReplicaLoadBalancingStrategy getStrategy() {
+        return strategy;
+    }
+
+    public Replica choose(Collection<Replica> excluded, long maxLagMillis) {
+        return choose(excluded, maxLagMillis, System.nanoTime());
+    }
+
+    Replica choose(Collection<Replica> excluded, long maxLagMillis, long nowNanos) {
+        List<Replica> candidates = replicaSet.getReplicas().stream()
+                .filter(replica -> replica.isUsableWithin(maxLagMillis))
+                .filter(replica -> !excluded.contains(replica))
+                .toList();
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        return switch (strategy) {
+            case WEIGHTED -> weightedRandom(candidates, nowNanos);
+            case LEAST_OUTSTANDING -> lowestScore(candidates, nowNanos, false);
+            case EWMA_LATENCY -> lowestScore(candidates, nowNanos, true);
+        };
+    }
+
+    private Replica weightedRandom(List<Replica> candidates, long nowNanos) {
+        double total = 0;
+        for (Replica replica : candidates) {
+            total += replica.effectiveWeight(nowNanos);
+        }
+        double point = ThreadLocalRandom.current().nextDouble(total);
+        for (Replica replica : candidates) {
+            point -= replica.effectiveWeight(nowNanos);
+            if (point < 0) {
+                return replica;
+            }
+        }
+        return candidates.get(candidates.size() - 1);
+    }
+
+    // 점수가 같으면 무작위 시작 위치 기준으로 먼저 만난 replica (항상 첫 replica로 몰리지 않도록)
+    private Replica lowestScore(List<Replica> candidates, long nowNanos, boolean latencyAware) {
+        int offset = ThreadLocalRandom.current().nextInt(candidates.size());
+        Replica best = null;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < candidates.size(); i++) {
+            Replica replica = candidates.get((offset + i) % candidates.size());
+            double load = replica.getOutstanding() + 1;
+            // 아직 측정값이 없는 replica는 지연 0으로 보고 먼저 시도해 측정값을 얻는다
+            double cost = latencyAware ? load * replica.getEwmaLatencyMillis() : load;
+            double score = cost / replica.effectiveWeight(nowNanos);
+            if (score < bestScore) {
+                best = replica;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.demo.config.replica;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 replica 선택 방식 - auction.datasource.load-balancing.strategy
+ */
+public enum ReplicaLoadBalancingStrategy {
+    WEIGHTED,           // 가중치 비율로 무작위 선택
+    LEAST_OUTSTANDING,  // 사용 중인 커넥션 수 / 가중치가 가장 작은 replica
+    EWMA_LATENCY        // 커넥션 사용 시간 EWMA x (사용 중 + 1) / 가중치가 가장 작은 replica (느려진 replica를 빨리 피함)
+}
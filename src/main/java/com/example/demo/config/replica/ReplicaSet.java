@@ -0,0 +1,93 @@
+package com.example.demo.config.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 replica 목록과 제외/복귀 상태 관리.
+ * <p>
+ * 헬스 체크와 실제 커넥션 획득 실패가 같은 연속 실패 횟수를 공유하므로, 트래픽이 있는 replica는
+ * 다음 헬스 체크를 기다리지 않고 바로 제외된다. 복귀는 헬스 체크의 연속 성공으로만 일어난다.
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final int failureThreshold;
+    private final int recoveryThreshold;
+    private final Counter ejections;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaSet(List<Replica> replicas, int failureThreshold, int recoveryThreshold, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.failureThreshold = failureThreshold;
+        this.recoveryThreshold = recoveryThreshold;
+        this.meterRegistry = meterRegistry;
+        this.ejections = Counter.builder("auction.replica.ejections")
+                .description("헬스 체크 또는 커넥션 실패로 제외된 횟수")
+                .register(meterRegistry);
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("auction.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("auction.replica.outstanding", replica, Replica::getOutstanding)
+                    .description("사용 중인 커넥션 수")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+            Gauge.builder("auction.replica.latency.ewma", replica, Replica::getEwmaLatencyMillis)
+                    .description("커넥션 사용 시간 EWMA")
+                    .baseUnit("milliseconds")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * 허용 지연 안에서 읽을 수 있는 replica가 하나라도 있는지 - 캐시된 값만 보므로 라우팅마다 호출해도 된다
+     */
+    public boolean hasReplicaWithin(long maxLagMillis) {
+        for (Replica replica : replicas) {
+            if (replica.isUsableWithin(maxLagMillis)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void markFailure(Replica replica, String cause) {
+        if (replica.recordFailure(failureThreshold)) {
+            ejections.increment();
+            log.warn("replica 제외: {} (연속 실패 {}회, 원인: {})", replica.getName(), failureThreshold, cause);
+        }
+    }
+
+    public void markSuccess(Replica replica) {
+        if (replica.recordSuccess(recoveryThreshold, System.nanoTime())) {
+            log.info("replica 복귀: {} (warm-up 후 전체 가중치)", replica.getName());
+        }
+    }
+
+    /**
+     * read-your-writes 대기 결과 (applied: 시간 안에 적용, timeout: master로 대체, error: 대기 쿼리 실패)
+     */
+    public void recordGtidWait(String outcome) {
+        meterRegistry.counter("auction.replica.gtid.wait", "outcome", outcome).increment();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.config.replica;
+
+/**
+ * 현재 스레드의 읽기 허용 지연 ({@link ReadStaleness}가 설정, 라우팅 시점에 조회)
+ */
+public final class StalenessBudget {
+
+    private static final long UNSET = -1L;
+    private static final ThreadLocal<Long> CURRENT = ThreadLocal.withInitial(() -> UNSET);
+
+    private StalenessBudget() {
+    }
+
+    public static long current(long defaultMillis) {
+        long budget = CURRENT.get();
+        return budget == UNSET ? defaultMillis : budget;
+    }
+
+    /**
+     * @return 이전 값 - 끝나면 {@link #restore(long)}로 되돌린다
+     */
+    static long set(long maxLagMillis) {
+        long previous = CURRENT.get();
+        CURRENT.set(maxLagMillis);
+        return previous;
+    }
+
+    static void restore(long previous) {
+        if (previous == UNSET) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
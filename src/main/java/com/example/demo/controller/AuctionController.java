@@ -1,8 +1,10 @@
 package com.example.demo.controller;
 
+import com.example.demo.batch.launcher.AuctionStatusJobLauncher;
 import com.example.demo.dto.AuctionCreateRequest;
 import com.example.demo.dto.AuctionDetailResponse;
 import com.example.demo.dto.AuctionResponse;
+import com.example.demo.dto.AuctionStatusUpdateResponse;
 import com.example.demo.entity.Auction;
 import com.example.demo.entity.AuctionStatus;
 import com.example.demo.service.AuctionService;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionStatusJobLauncher auctionStatusJobLauncher;
 
     @Operation(
             summary = "경매 등록",
@@ -99,12 +102,16 @@ public class AuctionController {
 
     @Operation(
             summary = "경매 상태 일괄 업데이트",
-            description = "시작/종료 시간에 따라 경매 상태를 일괄 업데이트합니다. " +
-                    "PENDING → ACTIVE, ACTIVE → ENDED (쓰기 작업 - Master DB)"
+            description = "경매 시작(PENDING → ACTIVE)/종료(ACTIVE → ENDED) 배치를 비동기로 실행하고 " +
+                    "각 JobExecution ID를 반환합니다. 둘 중 하나라도 실행 중이면 아무것도 실행하지 않고 409를 반환합니다. (쓰기 작업 - Master DB)"
     )
     @PostMapping("/update-statuses")
-    public ResponseEntity<Void> updateAuctionStatuses() {
-        auctionService.updateAuctionStatuses();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<AuctionStatusUpdateResponse> updateAuctionStatuses() throws Exception {
+        AuctionStatusJobLauncher.StatusJobExecutions executions = auctionStatusJobLauncher.launchStatusJobs();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(AuctionStatusUpdateResponse.builder()
+                        .activationExecutionId(executions.activation().getId())
+                        .endExecutionId(executions.end().getId())
+                        .build());
     }
 }
@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.replica.ConsistencyToken;
 import com.example.demo.dto.BidCreateRequest;
 import com.example.demo.dto.BidResponse;
 import com.example.demo.entity.Bid;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,13 +40,19 @@ public class BidController {
                     "- 경매가 ACTIVE 상태여야 함\n" +
                     "- 현재 최고가 + 최소 입찰 증가액 이상이어야 함\n" +
                     "- 판매자는 자신의 경매에 입찰 불가\n" +
-                    "- 현재 최고가 입찰자는 재입찰 불가"
+                    "- 현재 최고가 입찰자는 재입찰 불가\n\n" +
+                    "응답 헤더 X-Consistency-Token을 다음 조회 요청 헤더로 보내면 이 입찰이 반영된 DB에서 읽습니다."
     )
     @PostMapping
-    public ResponseEntity<BidResponse> placeBid(@Valid @RequestBody BidCreateRequest request) {
-        Bid bid = bidService.placeBid(request);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(BidResponse.from(bid));
+    public CompletableFuture<ResponseEntity<BidResponse>> placeBid(@Valid @RequestBody BidCreateRequest request) {
+        // 입찰이 커밋될 때까지 요청 스레드를 잡지 않고 비동기로 응답한다 (실패는 GlobalExceptionHandler로 전달)
+        return bidService.placeBid(request).thenApply(placed -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.CREATED);
+            if (placed.consistencyToken() != null) {
+                response.header(ConsistencyToken.HEADER, placed.consistencyToken());
+            }
+            return response.body(BidResponse.from(placed.bid()));
+        });
     }
 
     @Operation(
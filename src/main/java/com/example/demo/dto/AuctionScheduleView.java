@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.AuctionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 상태 전환 예약에 필요한 컬럼만 조회하는 Projection
+ */
+public interface AuctionScheduleView {
+
+    Long getId();
+
+    AuctionStatus getStatus();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
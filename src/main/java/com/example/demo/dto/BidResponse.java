@@ -33,7 +33,7 @@ public class BidResponse {
                 .bidderName(bid.getBidder().getUsername())
                 .bidAmount(bid.getBidAmount())
                 .bidTime(bid.getBidTime())
-                .isWinning(bid.getIsWinning())
+                .isWinning(bid.isLeading())
                 .build();
     }
 }
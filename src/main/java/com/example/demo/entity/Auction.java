@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_end_time", columnList = "end_time"),
     @Index(name = "idx_start_time", columnList = "start_time"),
-    @Index(name = "idx_seller", columnList = "seller_id")
+    @Index(name = "idx_seller", columnList = "seller_id"),
+    @Index(name = "idx_settlement", columnList = "status, winner_id, leading_bidder_id")
 })
 @Getter @Setter
 @NoArgsConstructor
@@ -65,6 +66,13 @@ public class Auction {
     @JoinColumn(name = "winner_id")
     private User winner;
 
+    // 현재 최고가 입찰 - bids는 추가만 하고 최고가는 이 포인터로 관리
+    @Column(name = "leading_bid_id")
+    private Long leadingBidId;
+
+    @Column(name = "leading_bidder_id")
+    private Long leadingBidderId;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
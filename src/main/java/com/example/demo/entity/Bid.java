@@ -12,8 +12,7 @@ import java.time.LocalDateTime;
 @Table(name = "bids", indexes = {
     @Index(name = "idx_auction", columnList = "auction_id"),
     @Index(name = "idx_bidder", columnList = "bidder_id"),
-    @Index(name = "idx_bid_time", columnList = "bid_time"),
-    @Index(name = "idx_auction_winning", columnList = "auction_id,is_winning")
+    @Index(name = "idx_bid_time", columnList = "bid_time")
 })
 @Getter @Setter
 @NoArgsConstructor
@@ -41,7 +40,10 @@ public class Bid {
     @Column(name = "bid_time", nullable = false, updatable = false)
     private LocalDateTime bidTime;
 
-    @Column(name = "is_winning", nullable = false)
-    @Builder.Default
-    private Boolean isWinning = false;
+    /**
+     * 경매의 현재 최고가 입찰인지 - 입찰 행에는 상태를 두지 않고 auctions.leading_bid_id로 판단
+     */
+    public boolean isLeading() {
+        return id != null && auction != null && id.equals(auction.getLeadingBidId());
+    }
 }
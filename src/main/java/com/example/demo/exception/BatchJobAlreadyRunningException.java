@@ -0,0 +1,8 @@
+package com.example.demo.exception;
+
+public class BatchJobAlreadyRunningException extends RuntimeException {
+
+    public BatchJobAlreadyRunningException(String jobName) {
+        super("이미 실행 중인 배치입니다: " + jobName);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.exception;
+
+public class BidContentionException extends RuntimeException {
+
+    public BidContentionException(Long auctionId) {
+        super("다른 입찰과 경합해 입찰을 처리하지 못했습니다. 다시 시도해주세요. 경매 ID: " + auctionId);
+    }
+}
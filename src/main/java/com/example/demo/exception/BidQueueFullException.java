@@ -0,0 +1,8 @@
+package com.example.demo.exception;
+
+public class BidQueueFullException extends RuntimeException {
+
+    public BidQueueFullException() {
+        super("입찰 요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+    }
+}
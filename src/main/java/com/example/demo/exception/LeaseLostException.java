@@ -0,0 +1,8 @@
+package com.example.demo.exception;
+
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String leaseName, long fencingToken) {
+        super("스케줄러 lease를 잃었습니다. lease: " + leaseName + ", fencingToken: " + fencingToken);
+    }
+}
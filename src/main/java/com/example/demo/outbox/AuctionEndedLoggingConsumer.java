@@ -0,0 +1,27 @@
+package com.example.demo.outbox;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 소비자 - 종료 이벤트를 로그로 남긴다. (알림/정산/검색 연동은 같은 인터페이스로 추가)
+ */
+@Slf4j
+@Component
+public class AuctionEndedLoggingConsumer implements OutboxEventConsumer {
+
+    @Override
+    public String name() {
+        return "auction-ended-log";
+    }
+
+    @Override
+    public void consume(List<AuctionOutboxEvent> events) {
+        long ended = events.stream()
+                .filter(event -> AuctionOutboxEvent.AUCTION_ENDED.equals(event.eventType()))
+                .count();
+        log.info("경매 종료 이벤트 수신: {}건 (event id {} ~ {})",
+                ended, events.get(0).id(), events.get(events.size() - 1).id());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * auction_outbox 테이블의 이벤트 한 건 - id 순서가 곧 전달 순서
+ */
+public record AuctionOutboxEvent(long id, String eventType, long auctionId, LocalDateTime createdAt) {
+
+    public static final String AUCTION_ENDED = "AUCTION_ENDED";
+}
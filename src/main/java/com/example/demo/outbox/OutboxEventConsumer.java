@@ -0,0 +1,19 @@
+package com.example.demo.outbox;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 소비자 - 빈으로 등록하면 {@link OutboxRelay}가 소비자별 체크포인트 이후의 이벤트를 id 순서대로 전달한다.
+ * 단, 늦게 커밋된 이벤트는 더 큰 id의 이벤트보다 나중에 전달될 수 있다.
+ * <p>
+ * 처리 도중 예외가 나면 체크포인트가 전진하지 않고 다음 주기에 같은 묶음을 다시 받으므로, 멱등하게 처리해야 한다.
+ */
+public interface OutboxEventConsumer {
+
+    /**
+     * 체크포인트 키 - 바꾸면 처음 이벤트부터 다시 받는다
+     */
+    String name();
+
+    void consume(List<AuctionOutboxEvent> events);
+}
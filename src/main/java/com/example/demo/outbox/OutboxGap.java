@@ -0,0 +1,58 @@
+package com.example.demo.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 체크포인트 아래에서 아직 전달하지 못한 id 구간 (fromId ~ toId).
+ * <p>
+ * AUTO_INCREMENT id는 커밋 순서와 다르므로 체크포인트를 넘어선 번호가 비어 있으면, 그 번호는 아직 커밋되지 않은 트랜잭션이거나
+ * 롤백/AUTO_INCREMENT 예약으로 영영 비는 번호다. 어느 쪽인지 알 수 없으므로 구간으로 기억해 두고 매 주기 다시 조회하다가,
+ * 발견한 지 gap-timeout이 지나면 비는 번호로 보고 버린다.
+ */
+public record OutboxGap(long fromId, long toId, LocalDateTime detectedAt) {
+
+    /**
+     * 이번 묶음을 전달한 뒤 남는 구간.
+     * 기존 구간에서 전달한 id를 빼고(만료된 구간은 버림), 체크포인트 뒤에서 새로 읽은 id 사이의 빈 번호를 구간으로 더한다.
+     *
+     * @param deliveredIds  이번에 전달한 id (오름차순, 기존 구간에서 늦게 도착한 id와 체크포인트 뒤의 새 id 모두)
+     * @param lastEventId   전달 전 체크포인트
+     * @param expiredBefore 이보다 먼저 발견된 구간은 버린다
+     */
+    public static List<OutboxGap> next(List<OutboxGap> gaps, List<Long> deliveredIds, long lastEventId,
+                                       LocalDateTime now, LocalDateTime expiredBefore) {
+        List<OutboxGap> next = new ArrayList<>();
+        for (OutboxGap gap : gaps) {
+            if (gap.detectedAt().isBefore(expiredBefore)) {
+                continue;
+            }
+            long fromId = gap.fromId();
+            for (long id : deliveredIds) {
+                if (id < fromId || id > gap.toId()) {
+                    continue;
+                }
+                if (id > fromId) {
+                    next.add(new OutboxGap(fromId, id - 1, gap.detectedAt()));
+                }
+                fromId = id + 1;
+            }
+            if (fromId <= gap.toId()) {
+                next.add(new OutboxGap(fromId, gap.toId(), gap.detectedAt()));
+            }
+        }
+
+        long expectedId = lastEventId + 1;
+        for (long id : deliveredIds) {
+            if (id <= lastEventId) {
+                continue;
+            }
+            if (id > expectedId) {
+                next.add(new OutboxGap(expectedId, id - 1, now));
+            }
+            expectedId = id + 1;
+        }
+        return next;
+    }
+}
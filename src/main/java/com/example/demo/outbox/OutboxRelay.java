@@ -0,0 +1,171 @@
+package com.example.demo.outbox;
+
+import com.example.demo.config.SchedulingConfig;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * auction_outbox 이벤트를 소비자별 체크포인트 이후부터 id 순서대로 묶어 전달한다.
+ * <p>
+ * 소비자 하나의 묶음 처리 = 트랜잭션 하나로, 체크포인트 행을 FOR UPDATE로 잡은 채 전달하고 마지막 id로 전진시킨다.
+ * 여러 인스턴스가 동시에 돌아도 체크포인트 락 때문에 한 소비자의 이벤트는 한 노드에서만 순서대로 처리된다.
+ * <p>
+ * AUTO_INCREMENT id는 커밋 순서와 다를 수 있으므로, 체크포인트는 읽은 마지막 id까지 바로 전진시키되
+ * 그 사이에 비어 있던 번호는 {@link OutboxGap} 구간으로 outbox_consumer_gap에 남긴다. 매 주기 구간 안의 id를 다시 조회해
+ * 늦게 커밋된 이벤트를 전달하고, 발견한 지 gap-timeout-millis가 지난 구간은 롤백 등으로 비는 번호로 보고 버린다.
+ * 그래서 늦게 커밋된 이벤트는 더 큰 id보다 나중에 전달될 수 있다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String ENSURE_CHECKPOINT_SQL =
+            "INSERT IGNORE INTO outbox_consumer_checkpoint (consumer_name, last_event_id, updated_at) VALUES (?, 0, ?)";
+    private static final String LOCK_CHECKPOINT_SQL =
+            "SELECT last_event_id FROM outbox_consumer_checkpoint WHERE consumer_name = ? FOR UPDATE";
+    private static final String SELECT_COLUMNS = "SELECT id, event_type, auction_id, created_at FROM auction_outbox ";
+    private static final String SELECT_EVENTS_SQL = SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_GAPS_SQL =
+            "SELECT from_id, to_id, detected_at FROM outbox_consumer_gap WHERE consumer_name = ? ORDER BY from_id";
+    private static final String DELETE_GAPS_SQL = "DELETE FROM outbox_consumer_gap WHERE consumer_name = ?";
+    private static final String INSERT_GAP_SQL =
+            "INSERT INTO outbox_consumer_gap (consumer_name, from_id, to_id, detected_at) VALUES (?, ?, ?, ?)";
+    private static final String ADVANCE_CHECKPOINT_SQL =
+            "UPDATE outbox_consumer_checkpoint SET last_event_id = ?, updated_at = ? WHERE consumer_name = ?";
+    private static final String PURGE_SQL =
+            "DELETE FROM auction_outbox WHERE created_at < ? " +
+                    "AND id <= (SELECT MIN(last_event_id) FROM outbox_consumer_checkpoint) ORDER BY id LIMIT ?";
+
+    private final List<OutboxEventConsumer> consumers;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번에 전달할 최대 이벤트 수
+    @Value("${auction.outbox.batch-size:500}")
+    private int batchSize;
+
+    // 빈 번호를 늦게 커밋되는 이벤트로 보고 다시 조회하는 기간 - 가장 긴 쓰기 트랜잭션보다 넉넉하게
+    @Value("${auction.outbox.gap-timeout-millis:300000}")
+    private long gapTimeoutMillis;
+
+    // 모든 소비자가 처리한 이벤트를 이 기간이 지나면 삭제
+    @Value("${auction.outbox.retention-days:3}")
+    private long retentionDays;
+
+    public OutboxRelay(List<OutboxEventConsumer> consumers,
+                       @Qualifier("schedulerDataSource") DataSource schedulerDataSource) {
+        this.consumers = consumers;
+        this.jdbcTemplate = new JdbcTemplate(schedulerDataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(schedulerDataSource));
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.relay-interval-ms:1000}",
+            scheduler = SchedulingConfig.INFRASTRUCTURE_SCHEDULER)
+    public void relay() {
+        for (OutboxEventConsumer consumer : consumers) {
+            try {
+                int delivered;
+                do {
+                    delivered = relayBatch(consumer);
+                } while (delivered == batchSize);
+            } catch (Exception e) {
+                // 체크포인트가 전진하지 않았으므로 다음 주기에 같은 묶음부터 다시 전달
+                log.error("outbox 이벤트 전달 실패: consumer={}", consumer.name(), e);
+            }
+        }
+    }
+
+    /**
+     * @return 체크포인트 뒤에서 새로 읽은 이벤트 수 (batchSize와 같으면 바로 다음 묶음을 읽는다)
+     */
+    private int relayBatch(OutboxEventConsumer consumer) {
+        Integer delivered = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(ENSURE_CHECKPOINT_SQL, consumer.name(), now);
+            long lastEventId = jdbcTemplate.queryForObject(LOCK_CHECKPOINT_SQL, Long.class, consumer.name());
+
+            List<OutboxGap> gaps = jdbcTemplate.query(SELECT_GAPS_SQL,
+                    (rs, rowNum) -> new OutboxGap(
+                            rs.getLong("from_id"),
+                            rs.getLong("to_id"),
+                            rs.getObject("detected_at", LocalDateTime.class)),
+                    consumer.name());
+            List<AuctionOutboxEvent> lateEvents = findInGaps(gaps);
+            List<AuctionOutboxEvent> newEvents = jdbcTemplate.query(SELECT_EVENTS_SQL, this::mapEvent, lastEventId, batchSize);
+
+            List<AuctionOutboxEvent> events = new ArrayList<>(lateEvents.size() + newEvents.size());
+            events.addAll(lateEvents);
+            events.addAll(newEvents);
+            if (!events.isEmpty()) {
+                consumer.consume(events);
+            }
+            if (!lateEvents.isEmpty()) {
+                log.info("늦게 커밋된 outbox 이벤트 전달: consumer={}, {}건", consumer.name(), lateEvents.size());
+            }
+
+            List<Long> deliveredIds = events.stream().map(AuctionOutboxEvent::id).toList();
+            List<OutboxGap> nextGaps = OutboxGap.next(
+                    gaps, deliveredIds, lastEventId, now, now.minus(gapTimeoutMillis, ChronoUnit.MILLIS));
+            if (!nextGaps.equals(gaps)) {
+                saveGaps(consumer, nextGaps);
+            }
+            if (!newEvents.isEmpty()) {
+                jdbcTemplate.update(ADVANCE_CHECKPOINT_SQL, newEvents.get(newEvents.size() - 1).id(), now, consumer.name());
+            }
+            return newEvents.size();
+        });
+        return delivered == null ? 0 : delivered;
+    }
+
+    private List<AuctionOutboxEvent> findInGaps(List<OutboxGap> gaps) {
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner ranges = new StringJoiner(" OR ", "WHERE ", " ORDER BY id");
+        List<Object> arguments = new ArrayList<>(gaps.size() * 2);
+        for (OutboxGap gap : gaps) {
+            ranges.add("id BETWEEN ? AND ?");
+            arguments.add(gap.fromId());
+            arguments.add(gap.toId());
+        }
+        return jdbcTemplate.query(SELECT_COLUMNS + ranges, this::mapEvent, arguments.toArray());
+    }
+
+    private void saveGaps(OutboxEventConsumer consumer, List<OutboxGap> gaps) {
+        jdbcTemplate.update(DELETE_GAPS_SQL, consumer.name());
+        jdbcTemplate.batchUpdate(INSERT_GAP_SQL, gaps.stream()
+                .map(gap -> new Object[]{consumer.name(), gap.fromId(), gap.toId(), gap.detectedAt()})
+                .toList());
+    }
+
+    private AuctionOutboxEvent mapEvent(ResultSet rs, int rowNum) throws SQLException {
+        return new AuctionOutboxEvent(
+                rs.getLong("id"),
+                rs.getString("event_type"),
+                rs.getLong("auction_id"),
+                rs.getObject("created_at", LocalDateTime.class));
+    }
+
+    @Scheduled(fixedDelayString = "${auction.outbox.purge-interval-ms:3600000}",
+            scheduler = SchedulingConfig.INFRASTRUCTURE_SCHEDULER)
+    public void purge() {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, LocalDateTime.now().minusDays(retentionDays), batchSize);
+        } while (deleted == batchSize);
+    }
+}
@@ -1,18 +1,38 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.AuctionScheduleView;
 import com.example.demo.entity.Auction;
 import com.example.demo.entity.AuctionStatus;
+import com.example.demo.outbox.AuctionOutboxEvent;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AuctionRepository extends JpaRepository<Auction, Long> {
 
+    // 입찰 처리용 - 경매 행을 잠가 같은 경매의 입찰 트랜잭션을 직렬화 (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Auction a WHERE a.id = :id")
+    Optional<Auction> findByIdForUpdate(@Param("id") Long id);
+
+    // 경매 종료 이벤트를 outbox에 기록 - 상태 변경과 같은 트랜잭션에서 호출
+    @Modifying
+    @Query(value = "INSERT INTO auction_outbox (event_type, auction_id, created_at) " +
+            "VALUES ('" + AuctionOutboxEvent.AUCTION_ENDED + "', :auctionId, CURRENT_TIMESTAMP(3))", nativeQuery = true)
+    void insertAuctionEndedEvent(@Param("auctionId") Long auctionId);
+
     // 상태별 경매 조회
     List<Auction> findByStatus(AuctionStatus status);
 
@@ -30,4 +50,12 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
 
     // 판매자별 경매 조회 (페이징)
     Page<Auction> findBySellerId(Long sellerId, Pageable pageable);
+
+    // 종료 시간이 구간 안에 있는 특정 상태의 경매 (타이밍 휠 예약용, 필요한 컬럼만 조회)
+    List<AuctionScheduleView> findScheduleByStatusInAndEndTimeBetween(
+            Collection<AuctionStatus> statuses, LocalDateTime from, LocalDateTime to);
+
+    // 시작 시간이 구간 안에 있는 특정 상태의 경매 (타이밍 휠 예약용, 필요한 컬럼만 조회)
+    List<AuctionScheduleView> findScheduleByStatusAndStartTimeBetween(
+            AuctionStatus status, LocalDateTime from, LocalDateTime to);
 }
@@ -23,8 +23,9 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     // 사용자별 입찰 내역 (페이징, 최신순)
     Page<Bid> findByBidderIdOrderByBidTimeDesc(Long bidderId, Pageable pageable);
 
-    // 경매의 현재 최고가 입찰 (is_winning = true인 입찰)
-    Optional<Bid> findFirstByAuctionIdAndIsWinningTrue(Long auctionId);
+    // 경매의 현재 최고가 입찰 (auctions.leading_bid_id가 가리키는 입찰)
+    @Query("SELECT b FROM Bid b WHERE b.id = (SELECT a.leadingBidId FROM Auction a WHERE a.id = :auctionId)")
+    Optional<Bid> findLeadingByAuctionId(@Param("auctionId") Long auctionId);
 
     // 경매의 최고가 입찰
     Optional<Bid> findFirstByAuctionIdOrderByBidAmountDesc(Long auctionId);
@@ -1,5 +1,7 @@
 package com.example.demo.service;
 
+import com.example.demo.batch.wheel.AuctionTransitionWheel;
+import com.example.demo.config.replica.ReadStaleness;
 import com.example.demo.dto.AuctionCreateRequest;
 import com.example.demo.entity.Auction;
 import com.example.demo.entity.AuctionStatus;
@@ -18,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +28,7 @@ public class AuctionService {
 
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
+    private final AuctionTransitionWheel auctionTransitionWheel;
 
     /**
      * 경매 생성 - 쓰기 작업 (Master DB 사용)
@@ -61,6 +63,9 @@ public class AuctionService {
 
         Auction savedAuction = auctionRepository.save(auction);
         log.info("경매 생성 완료: id={}", savedAuction.getId());
+
+        // 곧 시작/종료되는 경매는 초 단위로 전환되도록 타이밍 휠에 예약
+        auctionTransitionWheel.register(savedAuction);
         return savedAuction;
     }
 
@@ -68,6 +73,7 @@ public class AuctionService {
      * 경매 목록 조회 (페이징) - 읽기 작업 (Slave DB 사용)
      */
     @Transactional(readOnly = true)
+    @ReadStaleness(maxLagMillis = 10_000) // 목록은 몇 초 늦어도 괜찮음
     public Page<Auction> getAuctions(AuctionStatus status, Pageable pageable) {
         log.info("경매 목록 조회 중: 상태={}", status);
 
@@ -81,6 +87,7 @@ public class AuctionService {
      * 경매 상세 조회 - 읽기 작업 (Slave DB 사용)
      */
     @Transactional(readOnly = true)
+    @ReadStaleness(maxLagMillis = 1_000) // 종료 직후 상태 조회가 오래된 값을 보지 않도록
     public Auction getAuctionById(Long id) {
         log.info("경매 상세 조회 중: id={}", id);
         return auctionRepository.findById(id)
@@ -96,47 +103,23 @@ public class AuctionService {
         return auctionRepository.findBySellerId(sellerId, pageable);
     }
 
-    /**
-     * 경매 상태 자동 업데이트 - 쓰기 작업 (Master DB 사용)
-     * 스케줄러에서 주기적으로 호출
-     */
-    @Transactional
-    public void updateAuctionStatuses() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("경매 상태 업데이트 시작: 시각={}", now);
-
-        // PENDING → ACTIVE (시작 시간이 지난 경매)
-        List<Auction> toActivate = auctionRepository
-                .findByStatusAndStartTimeBefore(AuctionStatus.PENDING, now);
-
-        toActivate.forEach(auction -> {
-            auction.setStatus(AuctionStatus.ACTIVE);
-            log.info("경매 활성화: id={}", auction.getId());
-        });
-
-        // ACTIVE → ENDED (종료 시간이 지난 경매)
-        List<Auction> toEnd = auctionRepository
-                .findByStatusAndEndTimeBefore(AuctionStatus.ACTIVE, now);
-
-        toEnd.forEach(auction -> {
-            auction.setStatus(AuctionStatus.ENDED);
-            log.info("경매 종료: id={}", auction.getId());
-        });
-
-        log.info("경매 상태 업데이트 완료: ACTIVE={}건, ENDED={}건",
-                toActivate.size(), toEnd.size());
-    }
-
     /**
      * 경매 수동 종료 - 쓰기 작업 (Master DB 사용)
+     * <p>
+     * 배치/타이밍 휠과 같이 종료 이벤트를 상태 변경과 같은 트랜잭션에서 outbox에 남긴다.
+     * 경매 행을 잠가 다른 종료 경로와 동시에 실행돼도 이벤트가 한 번만 남는다.
      */
     @Transactional
     public Auction endAuction(Long auctionId) {
         log.info("경매 수동 종료: id={}", auctionId);
 
-        Auction auction = auctionRepository.findById(auctionId)
+        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
                 .orElseThrow(() -> new AuctionNotFoundException(auctionId));
 
+        if (auction.getStatus() == AuctionStatus.ENDED) {
+            return auction;
+        }
+        auctionRepository.insertAuctionEndedEvent(auctionId);
         auction.setStatus(AuctionStatus.ENDED);
         return auctionRepository.save(auction);
     }
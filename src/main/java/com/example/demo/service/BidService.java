@@ -1,23 +1,29 @@
 package com.example.demo.service;
 
+import com.example.demo.bid.AuctionStateCache;
+import com.example.demo.bid.BidBatchProcessor;
+import com.example.demo.bid.BidGroupCommitter;
+import com.example.demo.bid.BidProcessingMode;
+import com.example.demo.bid.BidSequencer;
+import com.example.demo.bid.ConditionalBidProcessor;
+import com.example.demo.bid.PlacedBid;
+import com.example.demo.config.replica.ConsistencyTokenIssuer;
+import com.example.demo.config.replica.ReadStaleness;
 import com.example.demo.dto.BidCreateRequest;
-import com.example.demo.entity.Auction;
-import com.example.demo.entity.AuctionStatus;
 import com.example.demo.entity.Bid;
-import com.example.demo.entity.User;
-import com.example.demo.exception.*;
-import com.example.demo.repository.AuctionRepository;
 import com.example.demo.repository.BidRepository;
-import com.example.demo.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -25,50 +31,51 @@ import java.util.List;
 public class BidService {
 
     private final BidRepository bidRepository;
-    private final AuctionRepository auctionRepository;
-    private final UserRepository userRepository;
+    private final BidBatchProcessor bidBatchProcessor;
+    private final ObjectProvider<BidSequencer> bidSequencer;
+    private final ObjectProvider<BidGroupCommitter> bidGroupCommitter;
+    private final ConditionalBidProcessor conditionalBidProcessor;
+    private final AuctionStateCache auctionStateCache;
+    private final ConsistencyTokenIssuer consistencyTokenIssuer;
+
+    // SEQUENCED(경매별 lane에서 묶음 처리) | DIRECT(요청 스레드에서 처리) | CONDITIONAL(조건부 UPDATE) | GROUP_COMMIT(경매 구분 없이 모아 커밋)
+    @Value("${auction.bid.processing-mode:SEQUENCED}")
+    private BidProcessingMode processingMode;
 
     /**
      * 입찰하기 - 쓰기 작업 (Master DB 사용)
+     * <p>
+     * SEQUENCED면 경매의 lane에, GROUP_COMMIT이면 {@link BidGroupCommitter}의 큐에 넣고 커밋 후 완료되는 future를 바로 돌려준다.
+     * DIRECT는 요청 스레드에서 {@link BidBatchProcessor}가 경매 행을 잠그고 처리하고,
+     * CONDITIONAL은 {@link ConditionalBidProcessor}가 조건부 UPDATE로 검증과 갱신을 한 번에 한다. 이 둘은 이미 완료된 future를 돌려준다.
+     * 검증 실패는 future의 예외로 전달된다 (캐시 사전 검증 실패만 바로 던진다).
+     * 결과에는 커밋 뒤 조회한 일관성 토큰이 붙으며, GROUP_COMMIT은 흐름마다 한 번 조회한 토큰을 함께 쓴다.
      */
-    @Transactional
-    public Bid placeBid(BidCreateRequest request) {
+    public CompletableFuture<PlacedBid> placeBid(BidCreateRequest request) {
         log.info("입찰 시도: 경매ID={}, 입찰자ID={}, 금액={}",
                 request.getAuctionId(), request.getBidderId(), request.getBidAmount());
 
-        // 엔티티 조회
-        Auction auction = auctionRepository.findById(request.getAuctionId())
-                .orElseThrow(() -> new AuctionNotFoundException(request.getAuctionId()));
-
-        User bidder = userRepository.findById(request.getBidderId())
-                .orElseThrow(() -> new UserNotFoundException(request.getBidderId()));
-
-        // 비즈니스 검증
-        validateBid(auction, bidder, request.getBidAmount());
-
-        // 이전 최고가 입찰의 is_winning을 false로 변경
-        bidRepository.findFirstByAuctionIdAndIsWinningTrue(auction.getId())
-                .ifPresent(previousWinning -> {
-                    previousWinning.setIsWinning(false);
-                    log.info("이전 최고가 입찰 해제: 입찰ID={}", previousWinning.getId());
-                });
-
-        // 새 입찰 생성
-        Bid bid = Bid.builder()
-                .auction(auction)
-                .bidder(bidder)
-                .bidAmount(request.getBidAmount())
-                .isWinning(true)
-                .build();
-
-        // 경매 정보 업데이트
-        auction.setCurrentPrice(request.getBidAmount());
-        auction.setBidCount(auction.getBidCount() + 1);
-
-        Bid savedBid = bidRepository.save(bid);
-        log.info("입찰 성공: 입찰ID={}", savedBid.getId());
+        // 캐시된 상태로 확실히 실패할 입찰은 트랜잭션을 열지 않고 거절
+        auctionStateCache.precheck(request, LocalDateTime.now());
+
+        CompletableFuture<PlacedBid> result = switch (processingMode) {
+            case SEQUENCED -> bidSequencer.getObject().submit(request).thenApply(this::withConsistencyToken);
+            case GROUP_COMMIT -> bidGroupCommitter.getObject().submit(request);
+            case CONDITIONAL -> CompletableFuture.completedFuture(
+                    withConsistencyToken(conditionalBidProcessor.process(request)));
+            case DIRECT -> CompletableFuture.completedFuture(withConsistencyToken(
+                    bidBatchProcessor.process(request.getAuctionId(), List.of(request)).getFirst().getOrThrow()));
+        };
+
+        return result.thenApply(placed -> {
+            log.info("입찰 성공: 입찰ID={}", placed.bid().getId());
+            return placed;
+        });
+    }
 
-        return savedBid;
+    // 커밋이 끝난 뒤 발급해야 방금 쓴 GTID가 포함된다
+    private PlacedBid withConsistencyToken(Bid savedBid) {
+        return new PlacedBid(savedBid, consistencyTokenIssuer.issue());
     }
 
     /**
@@ -103,9 +110,10 @@ public class BidService {
      * 경매의 현재 최고가 입찰 조회 - 읽기 작업 (Slave DB 사용)
      */
     @Transactional(readOnly = true)
+    @ReadStaleness(maxLagMillis = 1_000) // 최고가는 입찰 직후 바로 확인하는 값
     public Bid getCurrentWinningBid(Long auctionId) {
         log.info("현재 최고가 입찰 조회: 경매ID={}", auctionId);
-        return bidRepository.findFirstByAuctionIdAndIsWinningTrue(auctionId)
+        return bidRepository.findLeadingByAuctionId(auctionId)
                 .orElse(null);
     }
 
@@ -122,32 +130,6 @@ public class BidService {
         return new BidStatistics(bidCount, uniqueBidders);
     }
 
-    private void validateBid(Auction auction, User bidder, BigDecimal bidAmount) {
-        // 경매 상태 확인
-        if (auction.getStatus() != AuctionStatus.ACTIVE) {
-            throw new AuctionNotActiveException(auction.getId());
-        }
-
-        // 자신의 경매에 입찰 불가
-        if (auction.getSeller().getId().equals(bidder.getId())) {
-            throw new SellerCannotBidException();
-        }
-
-        // 최소 입찰 금액 확인
-        BigDecimal minimumBid = auction.getCurrentPrice().add(auction.getMinBidIncrement());
-        if (bidAmount.compareTo(minimumBid) < 0) {
-            throw new BidTooLowException(minimumBid);
-        }
-
-        // 현재 최고가 입찰자인지 확인 (동일 사용자 연속 입찰 방지)
-        bidRepository.findFirstByAuctionIdAndIsWinningTrue(auction.getId())
-                .ifPresent(currentWinning -> {
-                    if (currentWinning.getBidder().getId().equals(bidder.getId())) {
-                        throw new AlreadyWinningBidderException();
-                    }
-                });
-    }
-
     /**
      * 입찰 통계 내부 클래스
      */
@@ -0,0 +1,40 @@
+package com.example.demo.batch.chunk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveChunkSizePolicyTest {
+
+    @Test
+    @DisplayName("락 보유 시간이 목표를 넘으면 청크 크기를 절반으로 줄인다")
+    void halvesWhenLockHoldExceedsTarget() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(1000, 100, 5000, 200);
+
+        policy.adjust(400, 300, 1000);
+
+        assertThat(policy.getChunkSize()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("여유가 있으면 목표 시간에 맞춰 키우되 한 번에 1.5배를 넘지 않는다")
+    void growsTowardTargetWithLimitedStep() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(1000, 100, 5000, 200);
+
+        policy.adjust(50, 20, 1000);
+
+        assertThat(policy.getChunkSize()).isEqualTo(1500);
+    }
+
+    @Test
+    @DisplayName("조정된 크기는 설정한 최소/최대 범위를 벗어나지 않는다")
+    void staysWithinBounds() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(150, 100, 5000, 200);
+
+        policy.adjust(1000, 900, 150);
+        policy.adjust(1000, 900, 100);
+
+        assertThat(policy.getChunkSize()).isEqualTo(100);
+    }
+}
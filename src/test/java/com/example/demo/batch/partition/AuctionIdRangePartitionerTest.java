@@ -0,0 +1,47 @@
+package com.example.demo.batch.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionIdRangePartitionerTest {
+
+    @Test
+    @DisplayName("id 범위를 gridSize 개의 겹치지 않는 연속 구간으로 나눈다")
+    void splitsRangeIntoContiguousPartitions() {
+        Map<String, ExecutionContext> partitions = AuctionIdRangePartitioner.split(1, 10, 3);
+
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 1, 4);
+        assertRange(partitions.get("partition1"), 5, 8);
+        assertRange(partitions.get("partition2"), 9, 10);
+    }
+
+    @Test
+    @DisplayName("범위가 gridSize보다 작으면 필요한 만큼만 파티션을 만든다")
+    void createsFewerPartitionsForSmallRange() {
+        Map<String, ExecutionContext> partitions = AuctionIdRangePartitioner.split(100, 101, 4);
+
+        assertThat(partitions).hasSize(2);
+        assertRange(partitions.get("partition0"), 100, 100);
+        assertRange(partitions.get("partition1"), 101, 101);
+    }
+
+    @Test
+    @DisplayName("대상이 없으면 빈 범위의 파티션 하나만 만든다")
+    void createsSingleEmptyPartitionWhenNothingToProcess() {
+        Map<String, ExecutionContext> partitions = AuctionIdRangePartitioner.split(0, -1, 4);
+
+        assertThat(partitions).hasSize(1);
+        assertRange(partitions.get("partition0"), 0, -1);
+    }
+
+    private void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertThat(context.getLong(AuctionIdRangePartitioner.MIN_ID_KEY)).isEqualTo(minId);
+        assertThat(context.getLong(AuctionIdRangePartitioner.MAX_ID_KEY)).isEqualTo(maxId);
+    }
+}
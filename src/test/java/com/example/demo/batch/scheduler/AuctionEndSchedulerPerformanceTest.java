@@ -1,11 +1,14 @@
 package com.example.demo.batch.scheduler;
 
+import com.example.demo.batch.job.AuctionEndMode;
 import com.example.demo.entity.AuctionStatus;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
@@ -16,6 +19,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -71,11 +76,34 @@ class AuctionEndSchedulerPerformanceTest {
                 .addLong("runId", System.currentTimeMillis())  // 고유 ID로 Job 중복 방지
                 .toJobParameters();
 
+        runAndReport(jobParameters, "20만건");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @EnumSource(AuctionEndMode.class)
+    @DisplayName("20만건 경매 종료 배치 방식별(A/B) 성능 비교")
+    void compareEndModes(AuctionEndMode endMode) throws Exception {
+        // Given - 이전 실행에서 종료된 테스트 데이터를 다시 ACTIVE로 되돌려 같은 조건에서 비교
+        jdbcTemplate.update("UPDATE auctions SET status = ? WHERE status = ?",
+                AuctionStatus.ACTIVE.name(), AuctionStatus.ENDED.name());
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("currentTime", LocalDateTime.now().plusDays(1).toString())
+                .addLong("runId", System.currentTimeMillis())
+                .addString(AuctionEndMode.JOB_PARAMETER, endMode.name())
+                .toJobParameters();
+
+        runAndReport(jobParameters, "20만건, " + endMode.name());
+    }
+
+    private void runAndReport(JobParameters jobParameters, String label) throws Exception {
         System.gc();
         Thread.sleep(100);
 
         long initialMemory = getUsedMemory();
         final long[] peakMemory = {initialMemory};
+        long initialAllocated = getTotalAllocatedBytes();
+        long[] initialGc = getGcCountAndTime();
 
         // 별도 스레드에서 메모리 모니터링
         Thread memoryMonitor = new Thread(() -> {
@@ -104,6 +132,8 @@ class AuctionEndSchedulerPerformanceTest {
         memoryMonitor.join(1000);
         long endTime = System.currentTimeMillis();
         long finalMemory = getUsedMemory();
+        long allocatedBytes = getTotalAllocatedBytes() - initialAllocated;
+        long[] finalGc = getGcCountAndTime();
 
         // 처리된 데이터 수 확인
         long processedCount = jdbcTemplate.queryForObject(
@@ -115,7 +145,7 @@ class AuctionEndSchedulerPerformanceTest {
         double executionTimeSec = executionTimeMs / 1000.0;
 
         // 결과 출력
-        System.out.println("========== 상세 성능 분석 결과 (20만건) ==========");
+        System.out.println("========== 상세 성능 분석 결과 (" + label + ") ==========");
         System.out.println("Job 상태: " + jobExecution.getStatus());
         System.out.println("Job 시작 시간: " + jobExecution.getStartTime());
         System.out.println("Job 종료 시간: " + jobExecution.getEndTime());
@@ -129,6 +159,12 @@ class AuctionEndSchedulerPerformanceTest {
         System.out.println("  - 최종 메모리: " + formatMemorySize(finalMemory));
         System.out.println("  - 최대 증가량: " + formatMemorySize(peakMemory[0] - initialMemory));
         System.out.println("-------------------------------------------");
+        System.out.println("할당/GC:");
+        System.out.println("  - 총 할당량: " + formatMemorySize(allocatedBytes));
+        System.out.println("  - 할당 속도: " + formatMemorySize((long) (allocatedBytes / executionTimeSec)) + "/초");
+        System.out.println("  - GC 횟수: " + (finalGc[0] - initialGc[0]) + "회");
+        System.out.println("  - GC 누적 시간: " + (finalGc[1] - initialGc[1]) + " ms");
+        System.out.println("-------------------------------------------");
         System.out.println("JVM 메모리 정보:");
         System.out.println("  - JVM 최대 메모리: " + formatMemorySize(runtime.maxMemory()));
         System.out.println("  - JVM 총 메모리: " + formatMemorySize(runtime.totalMemory()));
@@ -149,6 +185,21 @@ class AuctionEndSchedulerPerformanceTest {
         return runtime.totalMemory() - runtime.freeMemory();
     }
 
+    // 살아 있는 모든 스레드의 누적 할당량 (배치 워커 스레드 포함)
+    private long getTotalAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    private long[] getGcCountAndTime() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(gc.getCollectionCount(), 0);
+            time += Math.max(gc.getCollectionTime(), 0);
+        }
+        return new long[]{count, time};
+    }
+
     private String formatMemorySize(long bytes) {
         if (bytes < 0) {
             return "-" + formatMemorySize(-bytes);
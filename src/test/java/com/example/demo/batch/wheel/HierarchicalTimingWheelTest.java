@@ -0,0 +1,56 @@
+package com.example.demo.batch.wheel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000L;
+
+    @Test
+    @DisplayName("마감 시각이 속한 tick에 도달하면 항목을 반환한다")
+    void returnsItemWhenTickReached() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 60, 0);
+        wheel.schedule("a", 3_000);
+
+        assertThat(wheel.advance(2_999)).isEmpty();
+        assertThat(wheel.advance(3_000)).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("아래 휠 범위를 넘는 항목은 상위 휠을 거쳐 정확한 tick에 반환된다")
+    void cascadesFromOverflowWheel() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 60, 0);
+        wheel.schedule("far", 125_000);
+        wheel.schedule("farther", 3_700_000);
+
+        assertThat(wheel.advance(124_000)).isEmpty();
+        assertThat(wheel.advance(125_000)).containsExactly("far");
+        assertThat(wheel.advance(3_699_000)).isEmpty();
+        assertThat(wheel.advance(3_700_000)).containsExactly("farther");
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감 시각은 다음 advance에서 바로 반환된다")
+    void returnsOverdueItemImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 60, 10_000);
+        wheel.schedule("late", 5_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(10_000)).containsExactly("late");
+    }
+
+    @Test
+    @DisplayName("여러 tick을 한 번에 건너뛰면 마감 순서대로 반환한다")
+    void returnsItemsInDeadlineOrder() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 60, 0);
+        wheel.schedule("second", 90_000);
+        wheel.schedule("first", 2_000);
+        wheel.schedule("third", 200_000);
+
+        assertThat(wheel.advance(300_000)).containsExactly("first", "second", "third");
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.AuctionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionStateCacheTest {
+
+    private static final LocalDateTime END_TIME = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    @DisplayName("구간으로 나눠도 전체 크기는 max-size를 넘지 않고 최근에 넣은 경매는 남는다")
+    void keepsTotalSizeWithinMaxSize() {
+        AuctionStateCache cache = cache(32);
+
+        LongStream.range(0, 1_000).forEach(id -> cache.update(state(id)));
+
+        assertThat(cache.size()).isEqualTo(32);
+        LongStream.range(968, 1_000).forEach(id -> assertThat(cache.get(id)).isPresent());
+    }
+
+    @Test
+    @DisplayName("같은 구간에서는 가장 오래 조회되지 않은 경매부터 버린다")
+    void evictsLeastRecentlyUsedWithinStripe() {
+        AuctionStateCache cache = cache(32);  // 16개 구간, 구간마다 2개 - 0, 16, 32는 같은 구간
+
+        cache.update(state(0));
+        cache.update(state(16));
+        cache.get(0L);
+        cache.update(state(32));
+
+        assertThat(cache.get(0L)).isPresent();
+        assertThat(cache.get(16L)).isEmpty();
+        assertThat(cache.get(32L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("max-size가 0이면 아무것도 캐시하지 않는다")
+    void disabledWhenMaxSizeIsZero() {
+        AuctionStateCache cache = cache(0);
+
+        cache.update(state(1));
+
+        assertThat(cache.get(1L)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static AuctionStateCache cache(int maxSize) {
+        return new AuctionStateCache(new BidValidator(), new SimpleMeterRegistry(), maxSize);
+    }
+
+    private static AuctionState state(long auctionId) {
+        return new AuctionState(auctionId, AuctionStatus.ACTIVE, END_TIME, 1L,
+                new BigDecimal("1000"), new BigDecimal("100"));
+    }
+}
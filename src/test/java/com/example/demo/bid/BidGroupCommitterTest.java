@@ -0,0 +1,218 @@
+package com.example.demo.bid;
+
+import com.example.demo.config.replica.ConsistencyTokenIssuer;
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Bid;
+import com.example.demo.exception.BidQueueFullException;
+import com.example.demo.exception.BidTooLowException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidGroupCommitterTest {
+
+    private final FakeGroupCommitBidWriter writer = new FakeGroupCommitBidWriter();
+    private final CountingConsistencyTokenIssuer issuer = new CountingConsistencyTokenIssuer();
+    private BidGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.release.countDown();
+        if (committer != null) {
+            committer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("max-batch-size건이 모이면 max-wait을 기다리지 않고 커밋한다")
+    void flushesWhenBatchIsFull() {
+        writer.release.countDown();
+        committer = committer(5, 10_000, 1_000);
+
+        List<CompletableFuture<PlacedBid>> results = submitAll(10);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertThat(writer.flushSizes).containsExactly(5, 5);
+    }
+
+    @Test
+    @DisplayName("max-batch-size보다 적게 들어오면 첫 입찰부터 max-wait-ms가 지난 뒤 모인 만큼 커밋한다")
+    void flushesAfterMaxWait() {
+        writer.release.countDown();
+        committer = committer(100, 200, 1_000);
+
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<PlacedBid>> results = submitAll(3);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(150);
+        assertThat(writer.flushSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 BidQueueFullException(503)으로 거절한다")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        committer = committer(1, 0, 1);
+
+        CompletableFuture<PlacedBid> inFlight = committer.submit(bid(1, 1_000));
+        assertThat(writer.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<PlacedBid> queued = committer.submit(bid(1, 2_000));
+
+        assertThatThrownBy(() -> committer.submit(bid(1, 3_000))).isInstanceOf(BidQueueFullException.class);
+
+        writer.release.countDown();
+        assertThat(inFlight.orTimeout(5, TimeUnit.SECONDS).join().bid().getBidAmount()).isEqualByComparingTo("1000");
+        assertThat(queued.orTimeout(5, TimeUnit.SECONDS).join().bid().getBidAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("같은 흐름에서 검증에 실패한 입찰만 실패하고, 나머지는 흐름마다 한 번 조회한 토큰을 함께 받는다")
+    void isolatesRejectedBidWithinFlush() {
+        committer = committer(3, 10_000, 1_000);
+
+        CompletableFuture<PlacedBid> first = committer.submit(bid(1, 1_000));
+        CompletableFuture<PlacedBid> tooLow = committer.submit(bid(2, FakeGroupCommitBidWriter.REJECTED_AMOUNT));
+        CompletableFuture<PlacedBid> third = committer.submit(bid(3, 3_000));
+        writer.release.countDown();
+
+        assertThatThrownBy(() -> tooLow.orTimeout(5, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(BidTooLowException.class);
+        assertThat(first.join().bid().getBidAmount()).isEqualByComparingTo("1000");
+        assertThat(third.join().bid().getBidAmount()).isEqualByComparingTo("3000");
+        assertThat(first.join().consistencyToken()).isEqualTo("uuid:1-1").isEqualTo(third.join().consistencyToken());
+        assertThat(writer.flushSizes).containsExactly(3);
+        assertThat(issuer.issued).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("흐름 전체가 실패하면 그 흐름의 입찰만 실패하고 다음 흐름은 계속 처리한다")
+    void failsOnlyTheFailedFlush() {
+        writer.release.countDown();
+        committer = committer(1, 0, 1_000);
+        writer.failNext.set(1);
+
+        CompletableFuture<PlacedBid> failed = committer.submit(bid(1, 1_000));
+        assertThatThrownBy(() -> failed.orTimeout(5, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(IllegalStateException.class);
+
+        CompletableFuture<PlacedBid> next = committer.submit(bid(2, 2_000));
+        assertThat(next.orTimeout(5, TimeUnit.SECONDS).join().bid().getBidAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("쓰기 중 Error가 나도 그 흐름만 실패하고 flusher는 다음 흐름을 계속 처리한다")
+    void keepsFlusherAliveAfterError() {
+        writer.release.countDown();
+        committer = committer(1, 0, 1_000);
+        writer.errorNext.set(true);
+
+        CompletableFuture<PlacedBid> failed = committer.submit(bid(1, 1_000));
+        assertThatThrownBy(() -> failed.orTimeout(5, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseInstanceOf(StackOverflowError.class);
+
+        CompletableFuture<PlacedBid> next = committer.submit(bid(2, 2_000));
+        assertThat(next.orTimeout(5, TimeUnit.SECONDS).join().bid().getBidAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("종료하면 새 입찰은 거절하고, 이미 받은 입찰은 모두 커밋한 뒤 끝낸다")
+    void drainsQueuedBidsOnShutdown() throws InterruptedException {
+        committer = committer(4, 10, 1_000);
+
+        List<CompletableFuture<PlacedBid>> results = submitAll(20);
+        writer.release.countDown();
+        committer.shutdown();
+
+        assertThatThrownBy(() -> committer.submit(bid(1, 1_000))).isInstanceOf(BidQueueFullException.class);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(writer.flushSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(20);
+    }
+
+    private BidGroupCommitter committer(int maxBatchSize, long maxWaitMs, int queueCapacity) {
+        return new BidGroupCommitter(writer, issuer, new SimpleMeterRegistry(),
+                maxBatchSize, maxWaitMs, queueCapacity, 10_000);
+    }
+
+    private List<CompletableFuture<PlacedBid>> submitAll(int count) {
+        List<CompletableFuture<PlacedBid>> results = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            results.add(committer.submit(bid(i, i * 1_000)));
+        }
+        return results;
+    }
+
+    private static BidCreateRequest bid(long auctionId, int amount) {
+        return new BidCreateRequest(auctionId, 10L, BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * DB 대신 흐름 크기만 기록하고, release 전까지는 쓰기를 멈춘다. REJECTED_AMOUNT 입찰은 검증 실패로 돌려준다.
+     */
+    private static class FakeGroupCommitBidWriter extends GroupCommitBidWriter {
+
+        private static final int REJECTED_AMOUNT = 1;
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger failNext = new AtomicInteger();
+        private final AtomicBoolean errorNext = new AtomicBoolean();
+        private final List<Integer> flushSizes = new CopyOnWriteArrayList<>();
+
+        FakeGroupCommitBidWriter() {
+            super(new DriverManagerDataSource(), null, null);
+        }
+
+        @Override
+        public List<BidOutcome> write(List<BidCreateRequest> requests) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("group commit 중단", e);
+            }
+            if (errorNext.getAndSet(false)) {
+                throw new StackOverflowError("쓰기 중 Error");
+            }
+            if (failNext.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new IllegalStateException("커밋 실패");
+            }
+            flushSizes.add(requests.size());
+            return requests.stream()
+                    .map(request -> request.getBidAmount().intValue() == REJECTED_AMOUNT
+                            ? BidOutcome.rejected(new BidTooLowException(BigDecimal.TEN))
+                            : BidOutcome.accepted(Bid.builder().bidAmount(request.getBidAmount()).build()))
+                    .toList();
+        }
+    }
+
+    private static class CountingConsistencyTokenIssuer extends ConsistencyTokenIssuer {
+
+        private final AtomicInteger issued = new AtomicInteger();
+
+        CountingConsistencyTokenIssuer() {
+            super(new DriverManagerDataSource());
+        }
+
+        @Override
+        public String issue() {
+            return "uuid:1-" + issued.incrementAndGet();
+        }
+    }
+}
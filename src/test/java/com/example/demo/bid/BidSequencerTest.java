@@ -0,0 +1,187 @@
+package com.example.demo.bid;
+
+import com.example.demo.dto.BidCreateRequest;
+import com.example.demo.entity.Bid;
+import com.example.demo.exception.BidQueueFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidSequencerTest {
+
+    private final FakeBidBatchProcessor processor = new FakeBidBatchProcessor();
+    private BidSequencer sequencer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.release.countDown();
+        if (sequencer != null) {
+            sequencer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 경매는 항상 같은 lane에 배정되고, lane 번호는 lane 수 안에 있다")
+    void assignsAuctionToFixedLane() {
+        for (long auctionId = -1_000; auctionId <= 1_000; auctionId++) {
+            int lane = BidSequencer.laneIndex(auctionId, 8);
+            assertThat(lane).isBetween(0, 7).isEqualTo(BidSequencer.laneIndex(auctionId, 8));
+        }
+        assertThat(IntStream.range(0, 64).map(id -> BidSequencer.laneIndex(id, 8)).distinct().count())
+                .isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("같은 경매의 입찰은 한 lane 스레드에서 도착 순서대로 처리된다")
+    void processesBidsOfAuctionInArrivalOrder() {
+        processor.release.countDown();
+        sequencer = sequencer(4, 1_000, 10_000);
+
+        List<CompletableFuture<Bid>> results = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            results.add(sequencer.submit(bid(1L, i)));
+            results.add(sequencer.submit(bid(2L, i)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        List<BigDecimal> expected = IntStream.rangeClosed(1, 200).mapToObj(BigDecimal::valueOf).toList();
+        assertThat(processor.amounts(1L)).containsExactlyElementsOf(expected);
+        assertThat(processor.amounts(2L)).containsExactlyElementsOf(expected);
+        assertThat(processor.threads.get(1L)).hasSize(1);
+        assertThat(processor.threads.get(2L)).hasSize(1);
+        assertThat(results.get(0).join().getBidAmount()).isEqualByComparingTo("1");
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 나도 그 묶음만 실패하고 lane은 다음 입찰을 계속 처리한다")
+    void keepsLaneAliveAfterError() {
+        processor.release.countDown();
+        processor.failNext.set(true);
+        sequencer = sequencer(1, 1_000, 10_000);
+
+        CompletableFuture<Bid> failed = sequencer.submit(bid(1L, 1));
+        assertThatThrownBy(() -> failed.orTimeout(5, TimeUnit.SECONDS).join())
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseInstanceOf(StackOverflowError.class);
+
+        CompletableFuture<Bid> next = sequencer.submit(bid(1L, 2));
+        assertThat(next.orTimeout(5, TimeUnit.SECONDS).join().getBidAmount()).isEqualByComparingTo("2");
+    }
+
+    @Test
+    @DisplayName("lane 큐가 가득 차면 BidQueueFullException으로 거절한다")
+    void rejectsWhenLaneQueueIsFull() throws InterruptedException {
+        sequencer = sequencer(1, 1, 10_000);
+
+        CompletableFuture<Bid> inFlight = sequencer.submit(bid(1L, 1));
+        assertThat(processor.started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Bid> queued = sequencer.submit(bid(1L, 2));
+
+        assertThatThrownBy(() -> sequencer.submit(bid(1L, 3))).isInstanceOf(BidQueueFullException.class);
+
+        processor.release.countDown();
+        assertThat(inFlight.orTimeout(5, TimeUnit.SECONDS).join().getBidAmount()).isEqualByComparingTo("1");
+        assertThat(queued.orTimeout(5, TimeUnit.SECONDS).join().getBidAmount()).isEqualByComparingTo("2");
+    }
+
+    @Test
+    @DisplayName("종료하면 새 입찰은 거절하고, 이미 받은 입찰은 모두 처리한 뒤 끝낸다")
+    void drainsAcceptedBidsOnShutdown() throws InterruptedException {
+        sequencer = sequencer(2, 1_000, 10_000);
+
+        List<CompletableFuture<Bid>> results = new ArrayList<>();
+        for (int i = 1; i <= 50; i++) {
+            results.add(sequencer.submit(bid(i % 4, i)));
+        }
+        processor.release.countDown();
+        sequencer.shutdown();
+
+        assertThatThrownBy(() -> sequencer.submit(bid(1L, 51))).isInstanceOf(BidQueueFullException.class);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+        assertThat(results).allMatch(result -> !result.isCompletedExceptionally());
+    }
+
+    @Test
+    @DisplayName("처리가 끝나지 않아도 shutdown-timeout-ms가 지나면 lane을 중단하고 종료한다")
+    void stopsWaitingAfterShutdownTimeout() throws InterruptedException {
+        sequencer = sequencer(1, 1_000, 200);
+
+        sequencer.submit(bid(1L, 1));
+        assertThat(processor.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long startedAt = System.nanoTime();
+        sequencer.shutdown();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isBetween(150L, 2_000L);
+        assertThat(processor.interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private BidSequencer sequencer(int lanes, int queueCapacity, long shutdownTimeoutMs) {
+        return new BidSequencer(processor, new SimpleMeterRegistry(), lanes, queueCapacity, 50, shutdownTimeoutMs);
+    }
+
+    private static BidCreateRequest bid(long auctionId, int amount) {
+        return new BidCreateRequest(auctionId, 10L, BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * DB 대신 받은 순서와 처리 스레드만 기록하고, release 전까지는 처리를 멈춘다
+     */
+    private static class FakeBidBatchProcessor extends BidBatchProcessor {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private final AtomicBoolean failNext = new AtomicBoolean();
+        private final Map<Long, List<BigDecimal>> processed = new ConcurrentHashMap<>();
+        private final Map<Long, Set<String>> threads = new ConcurrentHashMap<>();
+
+        FakeBidBatchProcessor() {
+            super(null, null, null, null, null);
+        }
+
+        @Override
+        public List<BidOutcome> process(Long auctionId, List<BidCreateRequest> requests) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted.countDown();
+                throw new IllegalStateException("lane 중단", e);
+            }
+            if (failNext.getAndSet(false)) {
+                throw new StackOverflowError("처리 중 Error");
+            }
+            threads.computeIfAbsent(auctionId, id -> ConcurrentHashMap.newKeySet()).add(Thread.currentThread().getName());
+            List<BigDecimal> amounts = processed.computeIfAbsent(auctionId, id -> new CopyOnWriteArrayList<>());
+            return requests.stream()
+                    .map(request -> {
+                        amounts.add(request.getBidAmount());
+                        return BidOutcome.accepted(Bid.builder().bidAmount(request.getBidAmount()).build());
+                    })
+                    .toList();
+        }
+
+        private List<BigDecimal> amounts(long auctionId) {
+            return processed.get(auctionId);
+        }
+    }
+}
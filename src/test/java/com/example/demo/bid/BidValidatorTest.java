@@ -0,0 +1,120 @@
+package com.example.demo.bid;
+
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.entity.User;
+import com.example.demo.exception.AlreadyWinningBidderException;
+import com.example.demo.exception.AuctionNotActiveException;
+import com.example.demo.exception.BidTooLowException;
+import com.example.demo.exception.SellerCannotBidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BidValidatorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final BidValidator validator = new BidValidator();
+    private final User seller = User.builder().id(1L).build();
+    private final User bidder = User.builder().id(2L).build();
+
+    @Test
+    @DisplayName("현재가 + 최소 증가액 이상이면 통과한다")
+    void acceptsBidAboveMinimum() {
+        assertThatCode(() -> validator.validate(activeAuction(), bidder, new BigDecimal("1100"), null, NOW))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("현재가 + 최소 증가액보다 낮으면 거절한다")
+    void rejectsBidBelowMinimum() {
+        assertThatThrownBy(() -> validator.validate(activeAuction(), bidder, new BigDecimal("1099"), null, NOW))
+                .isInstanceOf(BidTooLowException.class);
+    }
+
+    @Test
+    @DisplayName("진행 중이 아닌 경매는 거절한다")
+    void rejectsInactiveAuction() {
+        Auction auction = activeAuction();
+        auction.setStatus(AuctionStatus.ENDED);
+
+        assertThatThrownBy(() -> validator.validate(auction, bidder, new BigDecimal("2000"), null, NOW))
+                .isInstanceOf(AuctionNotActiveException.class);
+    }
+
+    @Test
+    @DisplayName("종료 배치 전이라도 종료 시간이 지난 경매는 거절한다")
+    void rejectsAuctionPastEndTime() {
+        Auction auction = activeAuction();
+        auction.setEndTime(NOW);
+
+        assertThatThrownBy(() -> validator.validate(auction, bidder, new BigDecimal("2000"), null, NOW))
+                .isInstanceOf(AuctionNotActiveException.class);
+    }
+
+    @Test
+    @DisplayName("판매자는 자신의 경매에 입찰할 수 없다")
+    void rejectsSeller() {
+        assertThatThrownBy(() -> validator.validate(activeAuction(), seller, new BigDecimal("2000"), null, NOW))
+                .isInstanceOf(SellerCannotBidException.class);
+    }
+
+    @Test
+    @DisplayName("현재 최고가 입찰자는 연속으로 입찰할 수 없다")
+    void rejectsCurrentWinner() {
+        assertThatThrownBy(() -> validator.validate(activeAuction(), bidder, new BigDecimal("2000"), bidder.getId(), NOW))
+                .isInstanceOf(AlreadyWinningBidderException.class);
+    }
+
+    @Test
+    @DisplayName("사전 검증은 캐시된 현재가 + 최소 증가액보다 낮은 입찰을 거절한다")
+    void precheckRejectsBidBelowCachedMinimum() {
+        AuctionState state = AuctionState.of(activeAuction());
+
+        assertThatThrownBy(() -> validator.precheck(state, bidder.getId(), new BigDecimal("1099"), NOW))
+                .isInstanceOf(BidTooLowException.class);
+    }
+
+    @Test
+    @DisplayName("사전 검증은 다른 노드에서 바뀔 수 있는 최고가 입찰자 규칙으로는 거절하지 않는다")
+    void precheckIgnoresLeadingBidder() {
+        Auction auction = activeAuction();
+        auction.setLeadingBidderId(bidder.getId());
+
+        AuctionState state = AuctionState.of(auction);
+
+        assertThatCode(() -> validator.precheck(state, bidder.getId(), new BigDecimal("1100"), NOW))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("상태를 합칠 때 현재가와 상태는 되돌아가지 않는다")
+    void mergeKeepsMonotonicFields() {
+        AuctionState newer = AuctionState.of(activeAuction()).withPrice(new BigDecimal("1500"));
+        Auction older = activeAuction();
+        older.setStatus(AuctionStatus.PENDING);
+
+        AuctionState merged = newer.merge(AuctionState.of(older));
+
+        assertThat(merged.currentPrice()).isEqualByComparingTo("1500");
+        assertThat(merged.status()).isEqualTo(AuctionStatus.ACTIVE);
+    }
+
+    private Auction activeAuction() {
+        return Auction.builder()
+                .id(10L)
+                .seller(seller)
+                .status(AuctionStatus.ACTIVE)
+                .currentPrice(new BigDecimal("1000"))
+                .minBidIncrement(new BigDecimal("100"))
+                .endTime(NOW.plusMinutes(1))
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoutingDiagnosticsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("경로별 커넥션 수와 획득 시간을 기록한다")
+    void recordsCountAndAcquireTimePerRoute() {
+        RoutingDiagnostics diagnostics = new RoutingDiagnostics(meterRegistry, 0);
+
+        diagnostics.record("master", 1_000_000);
+        diagnostics.record("slave", 2_000_000);
+        diagnostics.record("slave", 2_000_000);
+
+        assertThat(meterRegistry.get("auction.datasource.route").tag("route", "master").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auction.datasource.route").tag("route", "slave").counter().count()).isEqualTo(2);
+        assertThat(diagnostics.getAcquireTimer("slave").count()).isEqualTo(2);
+        assertThat(diagnostics.topCallSites(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샘플링된 호출은 라우팅 클래스를 건너뛴 첫 애플리케이션 프레임으로 집계한다")
+    void attributesSampledCallsToFirstApplicationFrame() {
+        RoutingDiagnostics diagnostics = new RoutingDiagnostics(meterRegistry, 1);
+
+        diagnostics.record("master", 1_000);
+        diagnostics.record("master", 1_000);
+
+        List<RoutingDiagnostics.CallSiteCount> callSites = diagnostics.topCallSites(10);
+        assertThat(callSites).hasSize(1);
+        assertThat(callSites.get(0).route()).isEqualTo("master");
+        assertThat(callSites.get(0).site()).startsWith(RoutingDiagnosticsTest.class.getName() + ".attributesSampledCalls");
+        assertThat(callSites.get(0).samples()).isEqualTo(2);
+
+        diagnostics.resetCallSites();
+        assertThat(diagnostics.topCallSites(10)).isEmpty();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.config.replica;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistencyTokenTest {
+
+    @AfterEach
+    void tearDown() {
+        ConsistencyToken.clear();
+    }
+
+    @Test
+    @DisplayName("gtid_executed의 줄바꿈을 제거해 헤더로 보낼 수 있는 토큰을 만든다")
+    void normalizesMultiLineGtidSet() {
+        String gtidExecuted = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77,\n4d22fb58-82db-22f2-8f44-d91bb0530673:1-5";
+
+        assertThat(ConsistencyToken.normalize(gtidExecuted))
+                .isEqualTo("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77,4d22fb58-82db-22f2-8f44-d91bb0530673:1-5");
+    }
+
+    @Test
+    @DisplayName("GTID 집합 형식이 아닌 토큰은 무시한다")
+    void ignoresMalformedToken() {
+        assertThat(ConsistencyToken.set("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77")).isTrue();
+        assertThat(ConsistencyToken.current()).isEqualTo("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-77");
+
+        ConsistencyToken.clear();
+        assertThat(ConsistencyToken.set("1'); DROP TABLE bids; --")).isFalse();
+        assertThat(ConsistencyToken.current()).isNull();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.config.replica;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLoadBalancerTest {
+
+    private static final long BUDGET_MILLIS = 1_000;
+    private static final long LAG_VALID_MILLIS = 60_000;
+
+    private final Replica first = new Replica("first", null, 1, 0.5, 10);
+    private final Replica second = new Replica("second", null, 1, 0.5, 10);
+    private final ReplicaSet replicaSet = new ReplicaSet(List.of(first, second), 2, 1, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        first.updateLagMillis(0, LAG_VALID_MILLIS);
+        second.updateLagMillis(0, LAG_VALID_MILLIS);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘은 replica는 고르지 않는다")
+    void skipsReplicasBeyondStalenessBudget() {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(replicaSet, ReplicaLoadBalancingStrategy.LEAST_OUTSTANDING);
+        first.updateLagMillis(5_000, LAG_VALID_MILLIS);
+
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isSameAs(second);
+        assertThat(replicaSet.hasReplicaWithin(BUDGET_MILLIS)).isTrue();
+
+        second.updateLagMillis(Long.MAX_VALUE, LAG_VALID_MILLIS);
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isNull();
+        assertThat(replicaSet.hasReplicaWithin(BUDGET_MILLIS)).isFalse();
+        assertThat(loadBalancer.choose(List.of(), 10_000)).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("측정한 지 유효 기간이 지난 복제 지연은 알 수 없음으로 보고 고르지 않는다")
+    void treatsExpiredLagAsUnknown() {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(replicaSet, ReplicaLoadBalancingStrategy.LEAST_OUTSTANDING);
+        first.updateLagMillis(0, 0);
+
+        assertThat(first.getLagMillis()).isEqualTo(Long.MAX_VALUE);
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("LEAST_OUTSTANDING은 사용 중인 커넥션이 적은 replica를 고른다")
+    void leastOutstandingPicksLessLoadedReplica() {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(replicaSet, ReplicaLoadBalancingStrategy.LEAST_OUTSTANDING);
+        first.acquired();
+        first.acquired();
+        second.acquired();
+
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("EWMA_LATENCY는 최근 사용 시간이 짧은 replica를 고른다")
+    void ewmaLatencyAvoidsSlowReplica() {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(replicaSet, ReplicaLoadBalancingStrategy.EWMA_LATENCY);
+        first.acquired();
+        first.released(TimeUnit.MILLISECONDS.toNanos(200));
+        second.acquired();
+        second.released(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 제외된 replica는 고르지 않고, 모두 제외되면 null을 반환한다")
+    void skipsEjectedReplicas() {
+        ReplicaLoadBalancer loadBalancer = new ReplicaLoadBalancer(replicaSet, ReplicaLoadBalancingStrategy.WEIGHTED);
+        replicaSet.markFailure(first, "down");
+        replicaSet.markFailure(first, "down");
+
+        assertThat(first.isAvailable()).isFalse();
+        assertThat(loadBalancer.choose(List.of(), BUDGET_MILLIS)).isSameAs(second);
+        assertThat(loadBalancer.choose(List.of(second), BUDGET_MILLIS)).isNull();
+    }
+
+    @Test
+    @DisplayName("복귀한 replica는 warm-up 동안 가중치를 낮췄다가 점차 올린다")
+    void restoredReplicaWarmsUp() {
+        replicaSet.markFailure(first, "down");
+        replicaSet.markFailure(first, "down");
+        long restoredAt = System.nanoTime();
+        first.recordSuccess(1, restoredAt);
+
+        assertThat(first.isAvailable()).isTrue();
+        assertThat(first.effectiveWeight(restoredAt)).isEqualTo(0.1);
+        assertThat(first.effectiveWeight(restoredAt + TimeUnit.SECONDS.toNanos(5))).isEqualTo(0.5);
+        assertThat(first.effectiveWeight(restoredAt + TimeUnit.SECONDS.toNanos(10))).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxGapTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private static final LocalDateTime EXPIRED_BEFORE = NOW.minusMinutes(5);
+
+    @Test
+    @DisplayName("체크포인트 뒤에서 건너뛴 번호를 구간으로 남긴다")
+    void recordsSkippedIdsAsGaps() {
+        List<OutboxGap> gaps = OutboxGap.next(List.of(), List.of(12L, 13L, 16L), 10, NOW, EXPIRED_BEFORE);
+
+        assertThat(gaps).containsExactly(
+                new OutboxGap(11, 11, NOW),
+                new OutboxGap(14, 15, NOW));
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 id는 구간에서 빠지고 나머지는 처음 발견한 시각을 유지한다")
+    void removesLateIdsFromGaps() {
+        LocalDateTime detectedAt = NOW.minusSeconds(30);
+        List<OutboxGap> gaps = List.of(new OutboxGap(11, 15, detectedAt));
+
+        List<OutboxGap> next = OutboxGap.next(gaps, List.of(11L, 13L), 20, NOW, EXPIRED_BEFORE);
+
+        assertThat(next).containsExactly(
+                new OutboxGap(12, 12, detectedAt),
+                new OutboxGap(14, 15, detectedAt));
+    }
+
+    @Test
+    @DisplayName("모두 도착한 구간과 gap-timeout이 지난 구간은 버린다")
+    void dropsFilledAndExpiredGaps() {
+        List<OutboxGap> gaps = List.of(
+                new OutboxGap(3, 4, EXPIRED_BEFORE.minusSeconds(1)),
+                new OutboxGap(7, 7, NOW.minusSeconds(1)));
+
+        List<OutboxGap> next = OutboxGap.next(gaps, List.of(7L, 21L), 20, NOW, EXPIRED_BEFORE);
+
+        assertThat(next).isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.AuctionCreateRequest;
+import com.example.demo.dto.UserCreateRequest;
+import com.example.demo.entity.Auction;
+import com.example.demo.entity.AuctionStatus;
+import com.example.demo.entity.User;
+import com.example.demo.outbox.AuctionOutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AuctionServiceTest {
+
+    private static final String COUNT_ENDED_EVENTS_SQL =
+            "SELECT COUNT(*) FROM auction_outbox WHERE event_type = ? AND auction_id = ?";
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("수동 종료는 상태 변경과 함께 종료 이벤트를 outbox에 한 번만 남긴다")
+    void endAuctionWritesOutboxEventOnce() {
+        Auction auction = createAuction();
+
+        Auction ended = auctionService.endAuction(auction.getId());
+        auctionService.endAuction(auction.getId());
+
+        assertThat(ended.getStatus()).isEqualTo(AuctionStatus.ENDED);
+        assertThat(countEndedEvents(auction.getId())).isEqualTo(1);
+    }
+
+    private Auction createAuction() {
+        String suffix = String.valueOf(System.nanoTime());
+        User seller = userService.createUser(
+                new UserCreateRequest("seller-" + suffix + "@example.com", "seller-" + suffix, null));
+
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        return auctionService.createAuction(new AuctionCreateRequest(
+                "수동 종료 테스트", "outbox 기록 확인", BigDecimal.valueOf(10_000),
+                seller.getId(), startTime, startTime.plusHours(1)));
+    }
+
+    private Integer countEndedEvents(Long auctionId) {
+        return jdbcTemplate.queryForObject(COUNT_ENDED_EVENTS_SQL, Integer.class, AuctionOutboxEvent.AUCTION_ENDED, auctionId);
+    }
+}